@@ -0,0 +1,150 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.CliSyntax;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.patient.NameContainsKeywordsPredicate;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Measures parsing and executing commands against address books of generated patients.
+ *
+ * Commands are executed on the model directly, without saving to storage or to the undo history, and every
+ * benchmark undoes its own change so that the address book keeps its size across invocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class CommandBenchmark {
+
+    private static final String ADD_ARGUMENTS = " n/Benchmark Patient p/91234567 a/1 Benchmark Road, #01-01"
+            + " t/Anxiety t/Outpatient";
+
+    @Param({"1000", "10000", "100000"})
+    private int patientCount;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private Model model;
+    private String findCommand;
+    private NameContainsKeywordsPredicate findPredicate;
+    private boolean isPhoneEdited;
+
+    /**
+     * Creates a model with {@code patientCount} generated patients.
+     */
+    @Setup
+    public void setUp() {
+        model = new ModelManager(DatasetGenerator.generate(patientCount), new UserPrefs());
+        String middlePatient = DatasetGenerator.getName(patientCount / 2);
+        findCommand = "find " + middlePatient.substring(middlePatient.indexOf(' ') + 1);
+        findPredicate = new NameContainsKeywordsPredicate(List.of(findCommand.substring("find ".length())));
+    }
+
+    /**
+     * Splits the arguments of an add command by prefix.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenizeAddArguments() {
+        return ArgumentTokenizer.tokenize(ADD_ARGUMENTS, CliSyntax.PREFIX_NAME, CliSyntax.PREFIX_PHONE,
+                CliSyntax.PREFIX_ADDRESS, CliSyntax.PREFIX_TAG);
+    }
+
+    @Benchmark
+    public Object parseAddCommand() throws ParseException {
+        return parser.parseCommand("add" + ADD_ARGUMENTS);
+    }
+
+    /**
+     * Adds a patient, then deletes it again.
+     */
+    @Benchmark
+    public CommandResult addCommand() throws ParseException, CommandException {
+        CommandResult result = parser.parseCommand("add" + ADD_ARGUMENTS).execute(model);
+        List<Patient> patients = model.getAddressBook().getPatientList();
+        model.deletePatient(patients.get(patients.size() - 1));
+        return result;
+    }
+
+    /**
+     * Edits the phone number of the first patient shown, alternating between two numbers.
+     */
+    @Benchmark
+    public CommandResult editCommand() throws ParseException, CommandException {
+        isPhoneEdited = !isPhoneEdited;
+        return parser.parseCommand("edit 1 p/" + (isPhoneEdited ? "99999999" : "88888888")).execute(model);
+    }
+
+    @Benchmark
+    public CommandResult findCommand() throws ParseException, CommandException {
+        return parser.parseCommand(findCommand).execute(model);
+    }
+
+    @Benchmark
+    public long filterWithNameContainsKeywordsPredicate() {
+        return model.getAddressBook().getPatientList().stream().filter(findPredicate).count();
+    }
+
+    /**
+     * Adds a note to the first patient shown. {@link NotedPatient} puts the patient back as it was after every
+     * invocation, outside the timed code.
+     */
+    @Benchmark
+    public CommandResult noteCommand(NotedPatient notedPatient) throws ParseException, CommandException {
+        return parser.parseCommand("note 1 nt/Benchmark nc/Slept well, mood stable.").execute(model);
+    }
+
+    /**
+     * The patient that {@link #noteCommand(NotedPatient)} adds notes to, as it was before any note was added.
+     */
+    @State(Scope.Benchmark)
+    public static class NotedPatient {
+        private Model model;
+        private Patient patient;
+        private int index;
+
+        /**
+         * Remembers the first patient shown in {@code benchmark}'s model, and where it is in the address book.
+         */
+        @Setup
+        public void setUp(CommandBenchmark benchmark) {
+            model = benchmark.model;
+            patient = model.getFilteredPatientList().get(0);
+            index = model.getAddressBook().getPatientList().indexOf(patient);
+        }
+
+        /**
+         * Puts the patient back as it was.
+         */
+        @TearDown(Level.Invocation)
+        public void restore() {
+            model.setPatient(model.getAddressBook().getPatientList().get(index), patient);
+        }
+    }
+}
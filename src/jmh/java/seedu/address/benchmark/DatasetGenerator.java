@@ -0,0 +1,71 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.note.Note;
+import seedu.address.testutil.PatientBuilder;
+
+/**
+ * Generates synthetic address books for the benchmarks.
+ *
+ * The same patient count always gives the same address book, so that results can be compared between runs.
+ * Patient {@code i} is named {@code Patient i} and has a phone number, an address, up to two of a small set of
+ * tags and up to {@link #MAX_NOTES_PER_PATIENT} notes.
+ */
+public class DatasetGenerator {
+
+    public static final int MAX_NOTES_PER_PATIENT = 4;
+
+    private static final long SEED = 2103;
+    private static final String[] TAGS = {"Anxiety", "Depression", "Insomnia", "Schizophrenia", "Bipolar", "PTSD",
+        "OCD", "ADHD", "Outpatient", "Inpatient"};
+    private static final String[] STREETS = {"Clementi Ave", "Jurong West St", "Ang Mo Kio Ave", "Tampines St",
+        "Bedok North Rd", "Woodlands Dr"};
+    private static final String[] WORDS = {"session", "medication", "sleep", "appetite", "mood", "family", "work",
+        "review", "dosage", "therapy", "progress", "relapse", "follow", "referral", "stable"};
+    private static final LocalDateTime FIRST_NOTE_TIME = LocalDateTime.of(2023, 1, 2, 9, 0);
+
+    /**
+     * Returns an address book of {@code patientCount} generated patients.
+     */
+    public static AddressBook generate(int patientCount) {
+        Random random = new Random(SEED);
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < patientCount; i++) {
+            PatientBuilder patient = new PatientBuilder()
+                    .withName(getName(i))
+                    .withPhone(String.valueOf(80000000 + i))
+                    .withAddress("Blk " + (i % 900 + 100) + ", " + STREETS[random.nextInt(STREETS.length)] + " "
+                            + (i % 9 + 1) + ", #0" + (i % 9 + 1) + "-" + (i % 200))
+                    .withTags(TAGS[random.nextInt(TAGS.length)], TAGS[random.nextInt(TAGS.length)]);
+            int noteCount = random.nextInt(MAX_NOTES_PER_PATIENT + 1);
+            for (int j = 0; j < noteCount; j++) {
+                patient.withNotes(new Note("Session " + (j + 1) + " " + getWord(random),
+                        getSentence(random, 20), FIRST_NOTE_TIME.plusDays(j).plusMinutes(i % 600)));
+            }
+            addressBook.addPatient(patient.build());
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the name of generated patient {@code index}.
+     */
+    public static String getName(int index) {
+        return "Patient " + index;
+    }
+
+    private static String getSentence(Random random, int wordCount) {
+        StringBuilder sentence = new StringBuilder(getWord(random));
+        for (int i = 1; i < wordCount; i++) {
+            sentence.append(' ').append(getWord(random));
+        }
+        return sentence.toString();
+    }
+
+    private static String getWord(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Measures loading and saving address books of generated patients, in the json and binary formats.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class StorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int patientCount;
+
+    private AddressBook addressBook;
+    private Path directory;
+    private JsonAddressBookStorage jsonStorage;
+    private BinaryAddressBookStorage binaryStorage;
+
+    /**
+     * Generates {@code patientCount} patients and saves them in both formats.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        addressBook = DatasetGenerator.generate(patientCount);
+        directory = Files.createTempDirectory("storage-benchmark");
+        jsonStorage = new JsonAddressBookStorage(directory.resolve("addressbook.json"));
+        binaryStorage = new BinaryAddressBookStorage(directory.resolve("addressbook.bin"));
+        jsonStorage.saveAddressBook(addressBook);
+        binaryStorage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the saved files.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadJson() throws DataLoadingException {
+        return jsonStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public void saveJson() throws IOException {
+        jsonStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadBinary() throws DataLoadingException {
+        return binaryStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public void saveBinary() throws IOException {
+        binaryStorage.saveAddressBook(addressBook);
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.patient.Address;
+import seedu.address.model.patient.Name;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Measures the validation of patient fields, which runs for every patient loaded from a data file.
+ *
+ * {@code validateWithStringMatches} validates the fields of 100k generated patients the way the model used to,
+ * with {@code String#matches}, and {@code validateWithModel} validates them with the model's validators.
+ * {@code loadAddressBook} loads a data file of the same 100k patients.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ValidationBenchmark {
+
+    private static final int PATIENT_COUNT = 100_000;
+
+    private final List<String> names = new ArrayList<>();
+    private final List<String> phones = new ArrayList<>();
+    private final List<String> addresses = new ArrayList<>();
+    private final List<String> tagNames = new ArrayList<>();
+    private Path dataFile;
+
+    /**
+     * Generates the patients and saves them to a temporary data file.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        AddressBook addressBook = DatasetGenerator.generate(PATIENT_COUNT);
+        for (Patient patient : addressBook.getPatientList()) {
+            names.add(patient.getName().fullName);
+            phones.add(patient.getPhone().value);
+            addresses.add(patient.getAddress().value);
+            tagNames.add(patient.getTags().iterator().next().tagName);
+        }
+
+        dataFile = Files.createTempFile("addressbook", ".json");
+        new JsonAddressBookStorage(dataFile).saveAddressBook(addressBook);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(dataFile);
+    }
+
+    /**
+     * Validates every field with {@code String#matches}, which compiles the regex on every call.
+     */
+    @Benchmark
+    public int validateWithStringMatches() {
+        int validCount = 0;
+        for (int i = 0; i < PATIENT_COUNT; i++) {
+            validCount += names.get(i).matches(Name.VALIDATION_REGEX) ? 1 : 0;
+            validCount += phones.get(i).matches(Phone.VALIDATION_REGEX) ? 1 : 0;
+            validCount += addresses.get(i).matches(Address.VALIDATION_REGEX) ? 1 : 0;
+            validCount += tagNames.get(i).matches(Tag.VALIDATION_REGEX) ? 1 : 0;
+        }
+        return validCount;
+    }
+
+    /**
+     * Validates every field with the model's validators.
+     */
+    @Benchmark
+    public int validateWithModel() {
+        int validCount = 0;
+        for (int i = 0; i < PATIENT_COUNT; i++) {
+            validCount += Name.isValidName(names.get(i)) ? 1 : 0;
+            validCount += Phone.isValidPhone(phones.get(i)) ? 1 : 0;
+            validCount += Address.isValidAddress(addresses.get(i)) ? 1 : 0;
+            validCount += Tag.isValidTagName(tagNames.get(i)) ? 1 : 0;
+        }
+        return validCount;
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadAddressBook() throws DataLoadingException {
+        return new JsonAddressBookStorage(dataFile).readAddressBook().get();
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -9,6 +10,7 @@ import java.util.logging.Logger;
 import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -18,6 +20,9 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path flightRecordingPath;
+    private Path scriptPath;
+    private int commandsPerSave;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +32,64 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the file to write a Java Flight Recorder recording of the session to, or null if there is none.
+     */
+    public Path getFlightRecordingPath() {
+        return flightRecordingPath;
+    }
+
+    public void setFlightRecordingPath(Path flightRecordingPath) {
+        this.flightRecordingPath = flightRecordingPath;
+    }
+
+    /**
+     * Returns the script to run without a GUI, or null if the app should start its GUI.
+     * A script path of {@link HeadlessApp#STANDARD_INPUT} stands for the standard input.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns how many commands of a script run between saves, or 0 if a script is only saved once it ends.
+     */
+    public int getCommandsPerSave() {
+        return commandsPerSave;
+    }
+
+    public void setCommandsPerSave(int commandsPerSave) {
+        this.commandsPerSave = commandsPerSave;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments given to {@code main}, before JavaFX is started.
+     * Named parameters are written {@code --name=value}, as for {@link #parse(Application.Parameters)}.
+     */
+    public static AppParameters parse(String... args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith("--") && separatorIndex > 2) {
+                namedParameters.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,6 +98,31 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String flightRecordingParameter = namedParameters.get("record");
+        if (flightRecordingParameter != null && !FileUtil.isValidPath(flightRecordingParameter)) {
+            logger.warning("Invalid flight recording path " + flightRecordingParameter + ". Not recording.");
+            flightRecordingParameter = null;
+        }
+        appParameters.setFlightRecordingPath(
+                flightRecordingParameter != null ? Paths.get(flightRecordingParameter) : null);
+
+        String scriptParameter = namedParameters.get("script");
+        if (scriptParameter != null && !FileUtil.isValidPath(scriptParameter)) {
+            logger.warning("Invalid script path " + scriptParameter + ". Starting the GUI instead.");
+            scriptParameter = null;
+        }
+        appParameters.setScriptPath(scriptParameter != null ? Paths.get(scriptParameter) : null);
+
+        String commandsPerSaveParameter = namedParameters.get("save-every");
+        if (commandsPerSaveParameter != null) {
+            if (StringUtil.isNonZeroUnsignedInteger(commandsPerSaveParameter)) {
+                appParameters.setCommandsPerSave(Integer.parseInt(commandsPerSaveParameter));
+            } else {
+                logger.warning("Invalid number of commands per save " + commandsPerSaveParameter
+                        + ". Saving once the script ends.");
+            }
+        }
+
         return appParameters;
     }
 
@@ -56,18 +138,24 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(flightRecordingPath, otherAppParameters.flightRecordingPath)
+                && Objects.equals(scriptPath, otherAppParameters.scriptPath)
+                && commandsPerSave == otherAppParameters.commandsPerSave;
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, flightRecordingPath, scriptPath, commandsPerSave);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("flightRecordingPath", flightRecordingPath)
+                .add("scriptPath", scriptPath)
+                .add("commandsPerSave", commandsPerSave)
                 .toString();
     }
 }
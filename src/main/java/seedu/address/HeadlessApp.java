@@ -0,0 +1,64 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.ScriptRunner;
+
+/**
+ * Runs the app without its GUI, executing the commands of a script instead of commands typed by the user.
+ * JavaFX is never started, so scripts can run on machines without a display.
+ *
+ * The app is set up as {@link MainApp} sets it up, except that the address book is saved every
+ * {@link AppParameters#getCommandsPerSave()} commands, or once the script ends, instead of after every command.
+ */
+public class HeadlessApp extends MainApp {
+
+    /** The script path that stands for the standard input. */
+    public static final String STANDARD_INPUT = "-";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILURE = 1;
+    public static final int EXIT_SCRIPT_FAILURE = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    /**
+     * Runs the script given in {@code appParameters}, reporting to {@code out}, and returns the exit status:
+     * {@link #EXIT_SUCCESS} if every command succeeded, {@link #EXIT_COMMAND_FAILURE} if some failed, or
+     * {@link #EXIT_SCRIPT_FAILURE} if the script could not be read or its changes could not be saved.
+     */
+    public int run(AppParameters appParameters, InputStream standardInput, PrintStream out) {
+        requireNonNull(appParameters.getScriptPath());
+        logger.info("=============================[ Running script ]=====================================");
+        initComponents(appParameters, appParameters.getCommandsPerSave());
+
+        Path scriptPath = appParameters.getScriptPath();
+        int exitStatus;
+        try (BufferedReader script = STANDARD_INPUT.equals(scriptPath.toString())
+                ? new BufferedReader(new InputStreamReader(standardInput, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8)) {
+            int failedCount = new ScriptRunner(logic).run(script, out);
+            exitStatus = failedCount == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILURE;
+        } catch (IOException ioe) {
+            logger.severe("Failed to run script " + scriptPath + " " + StringUtil.getDetails(ioe));
+            out.println("Could not run the script " + scriptPath + ": " + ioe.getMessage());
+            exitStatus = EXIT_SCRIPT_FAILURE;
+        } finally {
+            logger.info("============================ [ Stopping AddressBook ] =============================");
+            stopComponents();
+        }
+        return exitStatus;
+    }
+}
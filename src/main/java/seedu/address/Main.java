@@ -20,11 +20,18 @@ import seedu.address.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given a {@code --script=FILE} parameter, the application runs the script with {@link HeadlessApp} instead,
+ * without starting JavaFX.
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.getScriptPath() != null) {
+            System.exit(new HeadlessApp().run(appParameters, System.in, System.out));
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -6,15 +6,19 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.FlightRecording;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandEngine;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.metrics.PeriodicMetricsWriter;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -23,8 +27,11 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.AsyncStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -42,29 +49,60 @@ public class MainApp extends Application {
 
     protected Ui ui;
     protected Logic logic;
+    protected CommandEngine commandEngine;
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected PeriodicMetricsWriter metricsWriter;
+    protected FlightRecording flightRecording;
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        initComponents(AppParameters.parse(getParameters()), 1);
+
+        commandEngine = new CommandEngine(logic, Platform::runLater);
+        ui = new UiManager(logic, commandEngine);
+    }
+
+    /**
+     * Initializes every component of the app but its UI, with {@code logic} saving the address book once
+     * {@code commandsPerSave} commands have run since it changed.
+     */
+    protected void initComponents(AppParameters appParameters, int commandsPerSave) {
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        initFlightRecording(appParameters.getFlightRecordingPath());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        storage = new AsyncStorage(new StorageManager(addressBookStorage, userPrefsStorage));
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, commandsPerSave);
+        metricsWriter = new PeriodicMetricsWriter(logic.getCommandMetrics(), config.getMetricsFilePath());
+        if (config.getMetricsDumpIntervalSeconds() > 0) {
+            metricsWriter.start(config.getMetricsDumpIntervalSeconds());
+        }
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Returns the {@code AddressBookStorage} for the data file format chosen in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        switch (userPrefs.getAddressBookFileFormat()) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath, userPrefs.isLazyNoteLoading());
+        case SHARDED:
+            return new ShardedAddressBookStorage(filePath);
+        default:
+            return new JournalAddressBookStorage(filePath);
+        }
     }
 
     /**
@@ -88,8 +126,8 @@ public class MainApp extends Application {
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " and its backups could not be loaded"
+                    + " (" + e.getMessage() + "). Will be starting with an empty AddressBook.");
             initialData = new AddressBook();
         }
 
@@ -100,6 +138,21 @@ public class MainApp extends Application {
         LogsCenter.init(config);
     }
 
+    /**
+     * Starts a flight recording to {@code recordingPath}, unless it is null.
+     * The app runs without the recording if it cannot be started.
+     */
+    private void initFlightRecording(Path recordingPath) {
+        if (recordingPath == null) {
+            return;
+        }
+        try {
+            flightRecording = FlightRecording.start(recordingPath);
+        } catch (IOException e) {
+            logger.warning("Failed to start flight recording : " + StringUtil.getDetails(e));
+        }
+    }
+
     /**
      * Returns a {@code Config} using the file at {@code configFilePath}. <br>
      * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
@@ -186,10 +239,36 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
-        try {
-            storage.saveUserPrefs(model.getUserPrefs());
-        } catch (IOException e) {
-            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        if (commandEngine != null) {
+            commandEngine.shutdown();
+        }
+        stopComponents();
+    }
+
+    /**
+     * Stops the components started by {@link #initComponents(AppParameters, int)}, writing out what they hold.
+     * Components that were never started, because initialization failed early, are skipped.
+     */
+    protected void stopComponents() {
+        if (metricsWriter != null) {
+            metricsWriter.stop();
+        }
+        if (storage != null) {
+            try {
+                storage.flush();
+            } catch (IOException e) {
+                logger.severe("Failed to save data " + StringUtil.getDetails(e));
+            }
+        }
+        if (storage != null && model != null) {
+            try {
+                storage.saveUserPrefs(model.getUserPrefs());
+            } catch (IOException e) {
+                logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+            }
+        }
+        if (flightRecording != null) {
+            flightRecording.stop();
         }
     }
 }
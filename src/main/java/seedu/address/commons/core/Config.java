@@ -17,6 +17,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private Path metricsFilePath = Paths.get("metrics.txt");
+    /** How often command metrics are written to {@code metricsFilePath}, or 0 to never write them. */
+    private int metricsDumpIntervalSeconds = 300;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +37,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
+    public int getMetricsDumpIntervalSeconds() {
+        return metricsDumpIntervalSeconds;
+    }
+
+    public void setMetricsDumpIntervalSeconds(int metricsDumpIntervalSeconds) {
+        this.metricsDumpIntervalSeconds = metricsDumpIntervalSeconds;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +66,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && Objects.equals(metricsFilePath, otherConfig.metricsFilePath)
+                && metricsDumpIntervalSeconds == otherConfig.metricsDumpIntervalSeconds;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, metricsFilePath, metricsDumpIntervalSeconds);
     }
 
     @Override
@@ -60,6 +81,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("metricsFilePath", metricsFilePath)
+                .add("metricsDumpIntervalSeconds", metricsDumpIntervalSeconds)
                 .toString();
     }
 
@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats in which the address book data file can be stored.
+ */
+public enum DataFileFormat {
+    /** Human-readable json, with a journal of the changes since the last full save. */
+    JSON,
+    /** A compact binary encoding that is smaller on disk and faster to load and save. */
+    BINARY,
+    /** Many small json files, so that a save only rewrites the files of the patients that changed. */
+    SHARDED
+}
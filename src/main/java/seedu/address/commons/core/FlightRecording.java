@@ -0,0 +1,74 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.logging.Logger;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A Java Flight Recorder recording of the app, written to a file when it stops.
+ *
+ * The recording uses the JDK's low-overhead "profile" settings, and also records the app's own events for commands,
+ * data file I/O and undo snapshots. It is written out even if the app exits without stopping it.
+ */
+public class FlightRecording {
+
+    private static final Logger logger = LogsCenter.getLogger(FlightRecording.class);
+    private static final String SETTINGS = "profile";
+
+    private final Recording recording;
+    private final Path destination;
+
+    private FlightRecording(Recording recording, Path destination) {
+        this.recording = recording;
+        this.destination = destination;
+    }
+
+    /**
+     * Starts a recording that will be written to {@code destination}.
+     *
+     * @throws IOException if the recording could not be started.
+     */
+    public static FlightRecording start(Path destination) throws IOException {
+        requireNonNull(destination);
+        Recording recording;
+        try {
+            recording = new Recording(Configuration.getConfiguration(SETTINGS));
+        } catch (ParseException pe) {
+            throw new IOException("Could not read the JFR settings " + SETTINGS, pe);
+        }
+        try {
+            recording.setName("NeuroSync");
+            recording.setToDisk(true);
+            recording.setDumpOnExit(true);
+            recording.setDestination(destination);
+            recording.start();
+        } catch (IOException | IllegalStateException | SecurityException e) {
+            recording.close();
+            throw new IOException("Could not start a flight recording to " + destination, e);
+        }
+        logger.info("Started flight recording to " + destination);
+        return new FlightRecording(recording, destination);
+    }
+
+    /**
+     * Stops the recording and writes it to its destination.
+     * Failures are logged, as they should not stop the app from closing.
+     */
+    public void stop() {
+        try {
+            recording.stop();
+            logger.info("Wrote flight recording to " + destination);
+        } catch (IllegalStateException e) {
+            logger.warning("Failed to write flight recording to " + destination + ": " + StringUtil.getDetails(e));
+        } finally {
+            recording.close();
+        }
+    }
+}
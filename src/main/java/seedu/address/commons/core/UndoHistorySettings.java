@@ -0,0 +1,79 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A Serializable class that contains the limits of the undo/redo history.
+ * Once either limit is exceeded, the oldest states are dropped first.
+ * Guarantees: immutable.
+ */
+public class UndoHistorySettings implements Serializable {
+
+    public static final String MESSAGE_CONSTRAINTS = "Undo history limits must not be negative.";
+
+    private static final int DEFAULT_MAX_STEPS = 100;
+    private static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+
+    private final int maxSteps;
+    private final long maxBytes;
+
+    /**
+     * Constructs an {@code UndoHistorySettings} with the default limits.
+     */
+    public UndoHistorySettings() {
+        maxSteps = DEFAULT_MAX_STEPS;
+        maxBytes = DEFAULT_MAX_BYTES;
+    }
+
+    /**
+     * Constructs an {@code UndoHistorySettings} that keeps at most {@code maxSteps} undoable steps,
+     * using approximately at most {@code maxBytes} bytes of memory.
+     */
+    public UndoHistorySettings(int maxSteps, long maxBytes) {
+        checkArgument(maxSteps >= 0 && maxBytes >= 0, MESSAGE_CONSTRAINTS);
+        this.maxSteps = maxSteps;
+        this.maxBytes = maxBytes;
+    }
+
+    public int getMaxSteps() {
+        return maxSteps;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UndoHistorySettings)) {
+            return false;
+        }
+
+        UndoHistorySettings otherSettings = (UndoHistorySettings) other;
+        return maxSteps == otherSettings.maxSteps
+                && maxBytes == otherSettings.maxBytes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxSteps, maxBytes);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("maxSteps", maxSteps)
+                .add("maxBytes", maxBytes)
+                .toString();
+    }
+}
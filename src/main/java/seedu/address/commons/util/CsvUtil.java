@@ -0,0 +1,129 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes comma-separated values as described in RFC 4180, one record at a time.
+ *
+ * Fields that contain commas, double quotes or line breaks are enclosed in double quotes, with the double quotes
+ * inside doubled. Records end with a line break, which may be {@code \r\n} or {@code \n}.
+ */
+public class CsvUtil {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final int END_OF_INPUT = -1;
+    /** Characters that make spreadsheet applications read a cell as a formula when they start it. */
+    private static final String FORMULA_TRIGGERS = "=+-@\t\r";
+    private static final char FORMULA_ESCAPE = '\'';
+
+    /**
+     * Reads the next record from {@code reader}, or returns null if there are no more records.
+     * {@code reader} should be buffered, as it is read one character at a time.
+     *
+     * @throws IOException if {@code reader} cannot be read or a quoted field is not closed.
+     */
+    public static List<String> readRecord(Reader reader) throws IOException {
+        requireNonNull(reader);
+        int c = reader.read();
+        if (c == END_OF_INPUT) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        while (true) {
+            if (isQuoted) {
+                if (c == END_OF_INPUT) {
+                    throw new IOException("A quoted field is not closed");
+                }
+                if (c == QUOTE) {
+                    c = reader.read();
+                    if (c != QUOTE) {
+                        isQuoted = false;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == QUOTE && field.length() == 0) {
+                isQuoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == END_OF_INPUT) {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Writes {@code fields} to {@code writer} as one record, quoting the fields that need it.
+     */
+    public static void writeRecord(Writer writer, String... fields) throws IOException {
+        requireNonNull(writer);
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(SEPARATOR);
+            }
+            writeField(writer, fields[i]);
+        }
+        writer.write('\n');
+    }
+
+    private static void writeField(Writer writer, String field) throws IOException {
+        requireNonNull(field);
+        boolean needsQuotes = field.indexOf(SEPARATOR) >= 0 || field.indexOf(QUOTE) >= 0
+                || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0;
+        if (!needsQuotes) {
+            writer.write(field);
+            return;
+        }
+        writer.write(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == QUOTE) {
+                writer.write(QUOTE);
+            }
+            writer.write(c);
+        }
+        writer.write(QUOTE);
+    }
+
+    /**
+     * Returns {@code field} with a {@code '} in front if it starts like a spreadsheet formula, so that spreadsheet
+     * applications show it as text instead of evaluating it when the file is opened.
+     *
+     * @see #unescapeFormula(String)
+     */
+    public static String escapeFormula(String field) {
+        requireNonNull(field);
+        if (!field.isEmpty() && FORMULA_TRIGGERS.indexOf(field.charAt(0)) >= 0) {
+            return FORMULA_ESCAPE + field;
+        }
+        return field;
+    }
+
+    /**
+     * Returns {@code field} without the {@code '} that {@link #escapeFormula(String)} puts in front of it, if any.
+     */
+    public static String unescapeFormula(String field) {
+        requireNonNull(field);
+        if (field.length() > 1 && field.charAt(0) == FORMULA_ESCAPE
+                && FORMULA_TRIGGERS.indexOf(field.charAt(1)) >= 0) {
+            return field.substring(1);
+        }
+        return field;
+    }
+}
@@ -1,16 +1,30 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.zip.CRC32;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
     private static final String CHARSET = "UTF-8";
 
     public static boolean isFileExists(Path file) {
@@ -31,6 +45,15 @@ public class FileUtil {
         return true;
     }
 
+    /**
+     * Returns true if the name of {@code file} ends with {@code extension}, ignoring case.
+     */
+    public static boolean hasExtension(Path file, String extension) {
+        Path fileName = file.getFileName();
+        return fileName != null
+                && fileName.toString().toLowerCase(Locale.ROOT).endsWith(extension.toLowerCase(Locale.ROOT));
+    }
+
     /**
      * Creates a file if it does not exist along with its missing parent directories.
      * @throws IOException if the file or directory cannot be created.
@@ -73,11 +96,170 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
+     * Writes given string to a file, atomically as described in {@link #writeAtomically(Path, ContentWriter)}.
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeAtomically(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Replaces the contents of {@code file} with the output of {@code content}, keeping no backups.
+     *
+     * @see #writeAtomically(Path, int, ContentWriter)
+     */
+    public static void writeAtomically(Path file, ContentWriter content) throws IOException {
+        writeAtomically(file, 0, content);
+    }
+
+    /**
+     * Replaces the contents of {@code file} with the output of {@code content}, so that a crash at any point
+     * leaves either the old or the new contents in place, never a partial file.
+     * The contents are written to a temporary file next to {@code file} and forced to disk before that file is
+     * moved over {@code file}. If {@code backupGenerations} is positive, the replaced file is kept as the newest
+     * of that many backups, see {@link #getBackupPath(Path, int)}.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeAtomically(Path file, int backupGenerations, ContentWriter content) throws IOException {
+        assert backupGenerations >= 0;
+        Path tempFile = writeTempFile(file, content);
+        replaceWithTempFile(file, backupGenerations, tempFile);
+    }
+
+    /**
+     * Writes the output of {@code content} to a temporary file next to {@code file} and forces it to disk, leaving
+     * {@code file} itself untouched until {@link #replaceWithTempFile(Path, int, Path)} is called.
+     * The temporary file is deleted again if the output cannot be written.
+     * Will create the missing parent directories of {@code file} if they do not exist yet.
+     *
+     * @return the temporary file.
+     */
+    public static Path writeTempFile(Path file, ContentWriter content) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel))) {
+            content.writeTo(new FilterOutputStream(out) {
+                @Override
+                public void write(byte[] bytes, int offset, int length) throws IOException {
+                    out.write(bytes, offset, length);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    // the channel must stay open until it has been forced to disk
+                    flush();
+                }
+            });
+            out.flush();
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            deleteTempFile(tempFile, e);
+            throw e;
+        }
+        return tempFile;
+    }
+
+    /**
+     * Moves {@code tempFile}, as written by {@link #writeTempFile(Path, ContentWriter)}, over {@code file}.
+     * If {@code backupGenerations} is positive, the replaced file is kept as the newest of that many backups, see
+     * {@link #getBackupPath(Path, int)}. The temporary file is deleted if it cannot be moved.
+     */
+    public static void replaceWithTempFile(Path file, int backupGenerations, Path tempFile) throws IOException {
+        assert backupGenerations >= 0;
+        try {
+            rotateBackups(file, backupGenerations);
+            moveAtomically(tempFile, file);
+        } catch (IOException | RuntimeException e) {
+            deleteTempFile(tempFile, e);
+            throw e;
+        }
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    private static void deleteTempFile(Path tempFile, Exception failure) {
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException deleteFailure) {
+            failure.addSuppressed(deleteFailure);
+        }
+    }
+
+    /**
+     * Returns the path of the backup of {@code file} that is {@code generation} saves old, counting from 1.
+     */
+    public static Path getBackupPath(Path file, int generation) {
+        assert generation > 0;
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX + generation);
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing it, as a single atomic step if the file system supports it.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the CRC32 checksum of the contents of {@code file}.
+     */
+    public static long checksumOf(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Shifts the backups of {@code file} one generation older, dropping the oldest, and copies {@code file} to
+     * the newest backup. {@code file} itself stays in place until it is replaced, so a crash at any point still
+     * leaves a data file.
+     */
+    private static void rotateBackups(Path file, int backupGenerations) throws IOException {
+        if (backupGenerations == 0 || !Files.exists(file)) {
+            return;
+        }
+        Files.deleteIfExists(getBackupPath(file, backupGenerations));
+        for (int generation = backupGenerations - 1; generation > 0; generation--) {
+            Path backup = getBackupPath(file, generation);
+            if (Files.exists(backup)) {
+                moveAtomically(backup, getBackupPath(file, generation + 1));
+            }
+        }
+        Files.copy(file, getBackupPath(file, 1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Forces a rename within {@code directory} to disk. Not every platform allows this, so failures are ignored.
+     */
+    private static void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the rename is still atomic, it may only be lost if the whole system crashes right after it
+        }
+    }
+
+    /**
+     * Writes content to an output stream. Closing the stream is allowed but not required.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
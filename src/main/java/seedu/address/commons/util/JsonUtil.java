@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -111,6 +115,35 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a single-line JSON string, without pretty printing.
+     * Suitable for line-oriented files where each line holds one JSON object.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Creates a streaming parser over {@code reader} that reads values with the same settings as
+     * {@link #fromJsonString(String, Class)}. The caller is responsible for closing the parser.
+     */
+    public static JsonParser createParser(Reader reader) throws IOException {
+        requireNonNull(reader);
+        return objectMapper.getFactory().createParser(reader);
+    }
+
+    /**
+     * Creates a streaming generator onto {@code writer} that writes values with the same settings and layout as
+     * {@link #toJsonString(Object)}. The caller is responsible for closing the generator.
+     */
+    public static JsonGenerator createPrettyGenerator(Writer writer) throws IOException {
+        requireNonNull(writer);
+        return objectMapper.getFactory().createGenerator(writer).useDefaultPrettyPrinter();
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
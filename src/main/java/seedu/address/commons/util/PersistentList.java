@@ -0,0 +1,277 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable indexed list. Every update returns a new list that shares all untouched structure with the
+ * list it was made from, so keeping many versions of a list costs little more than keeping one.
+ *
+ * The list is stored as a size-annotated AVL tree: {@code get}, {@code set}, {@code add} and {@code remove}
+ * all take O(log n) time and allocate O(log n) new nodes. Null elements are not allowed.
+ */
+public final class PersistentList<T> implements Iterable<T> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list of {@code elements}, in the same order, in O(n) time.
+     */
+    public static <T> PersistentList<T> of(List<? extends T> elements) {
+        CollectionUtil.requireAllNonNull(elements);
+        List<? extends T> randomAccessElements = new ArrayList<>(elements);
+        return new PersistentList<>(build(randomAccessElements, 0, randomAccessElements.size()));
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     */
+    public T get(int index) {
+        Objects.checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<T> set(int index, T element) {
+        requireNonNull(element);
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(setAt(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} appended.
+     */
+    public PersistentList<T> add(T element) {
+        return add(size(), element);
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}.
+     */
+    public PersistentList<T> add(int index, T element) {
+        requireNonNull(element);
+        Objects.checkIndex(index, size() + 1);
+        return new PersistentList<>(insertAt(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} removed.
+     */
+    public PersistentList<T> remove(int index) {
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(removeAt(root, index));
+    }
+
+    /**
+     * Returns the elements of this list as an unmodifiable {@code List}, in O(n) time.
+     */
+    public List<T> toList() {
+        List<T> elements = new ArrayList<>(size());
+        forEach(elements::add);
+        return Collections.unmodifiableList(elements);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<T>> path = new ArrayDeque<>();
+
+            {
+                pushLeftSpine(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<T> node = path.pop();
+                pushLeftSpine(node.right);
+                return node.value;
+            }
+
+            private void pushLeftSpine(Node<T> node) {
+                for (Node<T> current = node; current != null; current = current.left) {
+                    path.push(current);
+                }
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersistentList)) {
+            return false;
+        }
+
+        PersistentList<?> otherList = (PersistentList<?>) other;
+        return toList().equals(otherList.toList());
+    }
+
+    @Override
+    public int hashCode() {
+        return toList().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    //// tree operations
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static <T> Node<T> build(List<? extends T> elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(build(elements, from, mid), elements.get(mid), build(elements, mid + 1, to));
+    }
+
+    private static <T> Node<T> setAt(Node<T> node, int index, T element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(setAt(node.left, index, element), node.value, node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.left, node.value, setAt(node.right, index - leftSize - 1, element));
+        } else {
+            return new Node<>(node.left, element, node.right);
+        }
+    }
+
+    private static <T> Node<T> insertAt(Node<T> node, int index, T element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(insertAt(node.left, index, element), node.value, node.right);
+        } else {
+            return balance(node.left, node.value, insertAt(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <T> Node<T> removeAt(Node<T> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(removeAt(node.left, index), node.value, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.value, removeAt(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node<T> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            return balance(node.left, successor.value, removeAt(node.right, 0));
+        }
+    }
+
+    /**
+     * Returns a node holding {@code value} between {@code left} and {@code right}, rotated if the heights of the
+     * two subtrees differ by more than one.
+     */
+    private static <T> Node<T> balance(Node<T> left, T value, Node<T> right) {
+        if (heightOf(left) > heightOf(right) + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.left, left.value, new Node<>(left.right, value, right));
+            }
+            Node<T> pivot = left.right;
+            return new Node<>(new Node<>(left.left, left.value, pivot.left), pivot.value,
+                    new Node<>(pivot.right, value, right));
+        }
+        if (heightOf(right) > heightOf(left) + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(new Node<>(left, value, right.left), right.value, right.right);
+            }
+            Node<T> pivot = right.left;
+            return new Node<>(new Node<>(left, value, pivot.left), pivot.value,
+                    new Node<>(pivot.right, right.value, right.right));
+        }
+        return new Node<>(left, value, right);
+    }
+
+    /**
+     * An immutable tree node. Nodes are never modified after construction, which is what allows them to be
+     * shared between lists.
+     */
+    private static final class Node<T> {
+        private final Node<T> left;
+        private final T value;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<T> left, T value, Node<T> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Helper functions for validating the values of the model.
+ *
+ * {@code String#matches(String)} compiles its regex on every call, which shows when every patient of a large data
+ * file is validated on loading. Regexes are therefore compiled once, and the simplest formats are checked by hand.
+ */
+public class ValidationUtil {
+
+    private static final Map<String, Pattern> compiledPatterns = new ConcurrentHashMap<>();
+
+    /**
+     * Returns true if the whole of {@code test} matches {@code regex}, like {@code test.matches(regex)},
+     * compiling {@code regex} only the first time it is used.
+     */
+    public static boolean matches(String test, String regex) {
+        requireNonNull(test);
+        requireNonNull(regex);
+        return compiledPatterns.computeIfAbsent(regex, Pattern::compile).matcher(test).matches();
+    }
+
+    /**
+     * Returns true if {@code test} is made of one or more ASCII letters and digits only.
+     * Equivalent to matching {@code \p{Alnum}+}.
+     */
+    public static boolean isAsciiAlphanumeric(String test) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isAsciiDigit(c) && !(c >= 'a' && c <= 'z') && !(c >= 'A' && c <= 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is an optional leading {@code +} followed by {@code minDigits} to
+     * {@code maxDigits} ASCII digits. Equivalent to matching {@code \+?\d{minDigits,maxDigits}}.
+     */
+    public static boolean isDigitsWithOptionalPlus(String test, int minDigits, int maxDigits) {
+        requireNonNull(test);
+        int start = test.startsWith("+") ? 1 : 0;
+        int digitCount = test.length() - start;
+        if (digitCount < minDigits || digitCount > maxDigits) {
+            return false;
+        }
+        for (int i = start; i < test.length(); i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,194 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Runs commands on a single background thread, so that long commands do not block the UI.
+ *
+ * Commands are queued as they are submitted and run one at a time in that order, so the thread is the only one to
+ * change the model. Results, and the changes each command made to the filtered patient list, are handed to the UI
+ * through the {@code publisher}, in the order the commands ran. The UI should show
+ * {@link #getDisplayedPatientList()} rather than the model's own list, which only the command thread may read.
+ */
+public class CommandEngine {
+
+    /**
+     * Receives the outcome of a command, through the publisher.
+     */
+    public interface ResultHandler {
+        /**
+         * Called with the result of a command that ran successfully.
+         */
+        void onSuccess(String commandText, CommandResult commandResult);
+
+        /**
+         * Called with the exception of a command that could not be parsed or failed.
+         */
+        void onFailure(String commandText, Exception exception);
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(CommandEngine.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final Logic logic;
+    private final Executor publisher;
+    private final ThreadPoolExecutor executor;
+    private final ObservableList<Patient> displayedPatients;
+    /** Changes to the filtered patient list not yet published, only touched by the thread changing the model. */
+    private List<PatientListEdit> pendingEdits = new ArrayList<>();
+    private long pendingEditSize;
+
+    /**
+     * Creates an engine that runs commands with {@code logic} and publishes their outcomes with {@code publisher},
+     * such as {@code Platform::runLater}.
+     * Must be created before any command runs, as it starts from a copy of the current filtered patient list.
+     */
+    public CommandEngine(Logic logic, Executor publisher) {
+        requireAllNonNull(logic, publisher);
+        this.logic = logic;
+        this.publisher = publisher;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "command-executor");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.displayedPatients = FXCollections.observableArrayList(logic.getFilteredPatientList());
+        logic.getFilteredPatientList().addListener(this::recordEdits);
+    }
+
+    /**
+     * Returns a copy of the model's filtered patient list that is only changed through the publisher.
+     */
+    public ObservableList<Patient> getDisplayedPatientList() {
+        return FXCollections.unmodifiableObservableList(displayedPatients);
+    }
+
+    /**
+     * Queues {@code commandText} to run after the commands submitted before it, and returns immediately.
+     * Its outcome is given to {@code resultHandler} through the publisher.
+     */
+    public void submit(String commandText, ResultHandler resultHandler) {
+        requireAllNonNull(commandText, resultHandler);
+        executor.execute(() -> run(commandText, resultHandler));
+    }
+
+    /**
+     * Returns the number of commands submitted that have not started running yet.
+     */
+    public int getQueuedCommandCount() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Stops accepting commands, and waits for the submitted ones to finish.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Commands still running after " + SHUTDOWN_TIMEOUT_SECONDS + " seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run(String commandText, ResultHandler resultHandler) {
+        Runnable outcome;
+        try {
+            CommandResult commandResult = logic.execute(commandText);
+            outcome = () -> resultHandler.onSuccess(commandText, commandResult);
+        } catch (CommandException | ParseException e) {
+            outcome = () -> resultHandler.onFailure(commandText, e);
+        } catch (RuntimeException e) {
+            logger.severe("Unexpected error running a command: " + StringUtil.getDetails(e));
+            outcome = () -> resultHandler.onFailure(commandText, e);
+        }
+        publishPatientListIfChanged();
+        publisher.execute(outcome);
+    }
+
+    private void recordEdits(ListChangeListener.Change<? extends Patient> change) {
+        List<? extends Patient> patients = change.getList();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                List<Patient> moved = List.copyOf(patients.subList(change.getFrom(), change.getTo()));
+                recordEdit(new PatientListEdit(change.getFrom(), moved.size(), moved));
+            } else {
+                recordEdit(new PatientListEdit(change.getFrom(), change.getRemovedSize(),
+                        List.copyOf(change.getAddedSubList())));
+            }
+        }
+
+        if (pendingEditSize > patients.size()) {
+            // Replaying the edits would copy more patients than replacing the whole list does.
+            pendingEdits = new ArrayList<>();
+            pendingEditSize = 0;
+            recordEdit(new PatientListEdit(0, PatientListEdit.ALL, List.copyOf(patients)));
+        }
+    }
+
+    private void recordEdit(PatientListEdit edit) {
+        pendingEdits.add(edit);
+        pendingEditSize += edit.added.size();
+    }
+
+    private void publishPatientListIfChanged() {
+        if (pendingEdits.isEmpty()) {
+            return;
+        }
+
+        List<PatientListEdit> edits = pendingEdits;
+        pendingEdits = new ArrayList<>();
+        pendingEditSize = 0;
+        publisher.execute(() -> edits.forEach(edit -> edit.applyTo(displayedPatients)));
+    }
+
+    /**
+     * A change to a range of the filtered patient list, to be made to the displayed copy of it.
+     */
+    private static class PatientListEdit {
+        /** Number of patients removed by an edit that replaces the whole list. */
+        static final int ALL = -1;
+
+        private final int from;
+        private final int removedSize;
+        private final List<Patient> added;
+
+        PatientListEdit(int from, int removedSize, List<Patient> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = added;
+        }
+
+        void applyTo(ObservableList<Patient> patients) {
+            if (removedSize == ALL || from == 0 && removedSize == patients.size()) {
+                patients.setAll(added);
+            } else if (removedSize == 1 && added.size() == 1) {
+                patients.set(from, added.get(0));
+            } else {
+                patients.remove(from, from + removedSize);
+                patients.addAll(from, added);
+            }
+        }
+    }
+}
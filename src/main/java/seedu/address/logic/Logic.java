@@ -1,12 +1,15 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.patient.Patient;
@@ -24,6 +27,19 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the timings and allocations recorded for the commands executed so far.
+     */
+    CommandMetrics getCommandMetrics();
+
+    /**
+     * Saves the address book if it has changes that commands have not saved yet, and waits until every save
+     * requested so far has been written.
+     *
+     * @throws IOException if the address book could not be written.
+     */
+    void savePendingChanges() throws IOException;
+
     /**
      * Returns the AddressBook.
      *
@@ -56,4 +72,10 @@ public interface Logic {
      * @return boolean indicating whether addressbook should be saved
      */
     boolean shouldSavePatientList(Command command);
+
+    /**
+     * Sets the listener that receives an error message whenever saved data fails to be written
+     * after its command has already completed.
+     */
+    void setSaveFailureListener(Consumer<String> listener);
 }
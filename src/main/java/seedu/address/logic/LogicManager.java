@@ -1,8 +1,11 @@
 package seedu.address.logic;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -10,14 +13,10 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.FilterNoteCommand;
-import seedu.address.logic.commands.FindCommand;
-import seedu.address.logic.commands.HelpCommand;
-import seedu.address.logic.commands.ListCommand;
-import seedu.address.logic.commands.RedoCommand;
-import seedu.address.logic.commands.UndoCommand;
-import seedu.address.logic.commands.ViewNotesCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandEvent;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -39,37 +38,84 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+    private final int commandsPerSave;
+    private int commandsSinceSave;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}
+     * that saves the address book after every command that changes it.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, 1);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage} that saves the address
+     * book once {@code commandsPerSave} commands have run since it changed, so that batches of commands are saved
+     * together. If {@code commandsPerSave} is 0, the address book is only saved by {@link #savePendingChanges()}.
+     */
+    public LogicManager(Model model, Storage storage, int commandsPerSave) {
+        checkArgument(commandsPerSave >= 0, "The number of commands per save must not be negative");
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        this.commandsPerSave = commandsPerSave;
+        addressBookParser = new AddressBookParser(commandMetrics);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        Command command = addressBookParser.parseCommand(commandText);
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        CommandMetrics.Recording recording = commandMetrics.startRecording();
+        String commandWord = CommandMetrics.INVALID_COMMAND_WORD;
         CommandResult commandResult;
         try {
+            recording.startPhase(Phase.PARSE);
+            Command command = addressBookParser.parseCommand(commandText);
+            commandWord = commandText.trim().split("\\s+", 2)[0];
+
+            recording.startPhase(Phase.EXECUTE);
             commandResult = command.execute(model);
-            storage.saveAddressBook(model.getAddressBook());
+            if (model.hasUnsavedChanges() && commandsPerSave > 0 && ++commandsSinceSave >= commandsPerSave) {
+                recording.startPhase(Phase.SAVE);
+                saveAddressBook();
+            }
             if (shouldSavePatientList(command)) {
+                recording.startPhase(Phase.SNAPSHOT);
                 model.saveAddressBook();
             }
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getFileOpsErrorMessage(ioe), ioe);
+        } finally {
+            recording.finish(commandWord);
+            event.commit(commandWord, recording, model.getAddressBook().getPatientList().size());
         }
 
         return commandResult;
     }
 
+    @Override
+    public void savePendingChanges() throws IOException {
+        if (model.hasUnsavedChanges()) {
+            saveAddressBook();
+        }
+        storage.flush();
+    }
+
+    private void saveAddressBook() throws IOException {
+        storage.saveAddressBook(model.getAddressBook());
+        model.markAddressBookSaved();
+        commandsSinceSave = 0;
+    }
+
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -97,15 +143,21 @@ public class LogicManager implements Logic {
 
     @Override
     public boolean shouldSavePatientList(Command command) {
-        boolean isUndoCommand = command instanceof UndoCommand;
-        boolean isRedoCommand = command instanceof RedoCommand;
-        boolean isListCommand = command instanceof ListCommand;
-        boolean isViewNotesCommand = command instanceof ViewNotesCommand;
-        boolean isFilterNoteCommand = command instanceof FilterNoteCommand;
-        boolean isFindCommand = command instanceof FindCommand;
-        boolean isHelpCommand = command instanceof HelpCommand;
-        boolean shouldSave = !(isUndoCommand || isRedoCommand || isListCommand || isViewNotesCommand
-                || isFilterNoteCommand || isFindCommand || isHelpCommand);
-        return shouldSave;
+        return command.isUndoable();
+    }
+
+    @Override
+    public void setSaveFailureListener(Consumer<String> listener) {
+        storage.setWriteFailureListener(ioe -> listener.accept(getFileOpsErrorMessage(ioe)));
+    }
+
+    /**
+     * Returns the message shown to the user when data could not be saved because of {@code ioe}.
+     */
+    private static String getFileOpsErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
     }
 }
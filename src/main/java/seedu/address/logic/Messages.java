@@ -60,10 +60,18 @@ public class Messages {
                 .append("; Address: ")
                 .append(patient.getAddress())
                 .append("; \nNotes: ")
-                .append(patient.getNotes().stream().map(Note::getTitledContent).collect(Collectors.joining(", ")))
+                .append(formatNotes(patient))
                 .append("; Tags: ");
         patient.getTags().forEach(builder::append);
         return builder.toString();
     }
 
+    private static String formatNotes(Patient patient) {
+        if (patient.getPendingNoteLoader().isPresent()) {
+            // Showing the notes is not worth loading them for.
+            return Patient.NOTES_NOT_LOADED;
+        }
+        return patient.getNotes().stream().map(Note::getTitledContent).collect(Collectors.joining(", "));
+    }
+
 }
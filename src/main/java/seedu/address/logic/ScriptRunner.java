@@ -0,0 +1,104 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.Histogram;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the commands of a script through {@code Logic}, one command per line, without a GUI.
+ *
+ * Blank lines and lines starting with {@link #COMMENT_PREFIX} are skipped, and an {@code exit} command ends the
+ * script early. A command that fails is reported with its line number and the script carries on. Once the script
+ * ends, changes that commands have not saved yet are saved, and the throughput and latency of the commands are
+ * reported.
+ */
+public class ScriptRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_COMMAND_FAILURE = "Line %1$d: %2$s\n  %3$s";
+    public static final String MESSAGE_SUMMARY = "Ran %1$d commands (%2$d failed) in %3$d ms, %4$.1f commands/s";
+    public static final String MESSAGE_LATENCY = "Latency (microseconds): mean %1$d, p50 %2$d, p99 %3$d, max %4$d";
+    public static final String MESSAGE_FINAL_SAVE = "Saved the address book in %1$d ms";
+
+    private static final Logger logger = LogsCenter.getLogger(ScriptRunner.class);
+
+    private final Logic logic;
+
+    /**
+     * Creates a runner of scripts through {@code logic}.
+     */
+    public ScriptRunner(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+    }
+
+    /**
+     * Runs every command of {@code script}, reporting failures and statistics to {@code out}.
+     *
+     * @return the number of commands that failed.
+     * @throws IOException if {@code script} cannot be read, or the changes made by the script cannot be saved.
+     */
+    public int run(BufferedReader script, PrintStream out) throws IOException {
+        requireNonNull(script);
+        requireNonNull(out);
+        Histogram latencyNanos = new Histogram();
+        int failedCount = 0;
+        int lineNumber = 0;
+        long startTime = System.nanoTime();
+
+        String line;
+        while ((line = script.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            long commandStartTime = System.nanoTime();
+            CommandResult result = null;
+            try {
+                result = logic.execute(commandText);
+            } catch (CommandException | ParseException e) {
+                failedCount++;
+                out.println(String.format(MESSAGE_COMMAND_FAILURE, lineNumber, commandText, e.getMessage()));
+            }
+            latencyNanos.record(System.nanoTime() - commandStartTime);
+            if (result != null && result.isExit()) {
+                break;
+            }
+        }
+
+        long saveStartTime = System.nanoTime();
+        logic.savePendingChanges();
+        long endTime = System.nanoTime();
+
+        long elapsedNanos = endTime - startTime;
+        double commandsPerSecond = latencyNanos.getCount() * (double) TimeUnit.SECONDS.toNanos(1)
+                / Math.max(elapsedNanos, 1);
+        String summary = String.format(MESSAGE_SUMMARY, latencyNanos.getCount(), failedCount,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), commandsPerSecond);
+        logger.info(summary);
+        out.println(summary);
+        out.println(String.format(MESSAGE_LATENCY, toMicros(latencyNanos.getMean()),
+                toMicros(latencyNanos.getPercentile(50)), toMicros(latencyNanos.getPercentile(99)),
+                toMicros(latencyNanos.getMax())));
+        out.println(String.format(MESSAGE_FINAL_SAVE, TimeUnit.NANOSECONDS.toMillis(endTime - saveStartTime)));
+        out.print(logic.getCommandMetrics().format());
+        return failedCount;
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
@@ -17,4 +17,21 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command may change the address book data.
+     * Commands that only query or display data should override this to return false,
+     * so that nothing is written to storage after they run.
+     */
+    public boolean isMutating() {
+        return true;
+    }
+
+    /**
+     * Returns true if the state after this command should be recorded in the undo history.
+     * By default this holds for every mutating command.
+     */
+    public boolean isUndoable() {
+        return isMutating();
+    }
+
 }
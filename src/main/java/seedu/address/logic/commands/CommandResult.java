@@ -5,6 +5,7 @@ import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.note.Note;
+import seedu.address.model.note.NoteSearchHit;
 import seedu.address.model.patient.Patient;
 
 /**
@@ -18,6 +19,7 @@ public class CommandResult {
     private final String patientName;
     private final List<Note> notesList;
     private final List<Patient> allPatients;
+    private final List<NoteSearchHit> noteSearchHits;
 
     // Regular constructor for normal commands
     public CommandResult(String feedbackToUser) {
@@ -29,6 +31,13 @@ public class CommandResult {
         this(feedbackToUser, showHelp, exit, false, null, null, null);
     }
 
+    /**
+     * Constructs a {@code CommandResult} that shows the ranked results of a note search in the notes panel.
+     */
+    public CommandResult(String feedbackToUser, List<NoteSearchHit> noteSearchHits) {
+        this(feedbackToUser, false, false, true, null, null, null, noteSearchHits);
+    }
+
     /**
      * Constructs a {@code CommandResult} object with the given parameters.
      * This constructor is used for initializing the command result with feedback,
@@ -49,6 +58,12 @@ public class CommandResult {
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit,
             boolean showNotes, String patientName, List<Note> notesList,
             List<Patient> allPatients) {
+        this(feedbackToUser, showHelp, exit, showNotes, patientName, notesList, allPatients, null);
+    }
+
+    private CommandResult(String feedbackToUser, boolean showHelp, boolean exit,
+            boolean showNotes, String patientName, List<Note> notesList,
+            List<Patient> allPatients, List<NoteSearchHit> noteSearchHits) {
         this.feedbackToUser = feedbackToUser;
         this.showHelp = showHelp;
         this.exit = exit;
@@ -56,6 +71,7 @@ public class CommandResult {
         this.patientName = patientName;
         this.notesList = notesList;
         this.allPatients = allPatients;
+        this.noteSearchHits = noteSearchHits;
     }
 
     public String getFeedbackToUser() {
@@ -86,6 +102,10 @@ public class CommandResult {
         return allPatients;
     }
 
+    public List<NoteSearchHit> getNoteSearchHits() {
+        return noteSearchHits;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -104,12 +124,14 @@ public class CommandResult {
                 && showNotes == otherCommandResult.showNotes
                 && Objects.equals(patientName, otherCommandResult.patientName)
                 && Objects.equals(notesList, otherCommandResult.notesList)
-                && Objects.equals(allPatients, otherCommandResult.allPatients);
+                && Objects.equals(allPatients, otherCommandResult.allPatients)
+                && Objects.equals(noteSearchHits, otherCommandResult.noteSearchHits);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit, showNotes, patientName, notesList, allPatients);
+        return Objects.hash(feedbackToUser, showHelp, exit, showNotes, patientName, notesList, allPatients,
+                noteSearchHits);
     }
 
     @Override
@@ -25,6 +25,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.note.Note;
+import seedu.address.model.note.NoteLoader;
 import seedu.address.model.patient.Address;
 import seedu.address.model.patient.Name;
 import seedu.address.model.patient.Patient;
@@ -101,7 +102,12 @@ public class EditCommand extends Command {
         Phone updatedPhone = editPatientDescriptor.getPhone().orElse(patientToEdit.getPhone());
         Address updatedAddress = editPatientDescriptor.getAddress().orElse(patientToEdit.getAddress());
         Set<Tag> updatedTags = editPatientDescriptor.getTags().orElse(patientToEdit.getTags());
-        TreeSet<Note> updatedNotes = patientToEdit.getNotes(); // not allowed to edit notes
+        // not allowed to edit notes, so notes that have not been loaded yet are left to load later
+        Optional<NoteLoader> pendingNoteLoader = patientToEdit.getPendingNoteLoader();
+        if (pendingNoteLoader.isPresent()) {
+            return new Patient(updatedName, updatedPhone, updatedAddress, updatedTags, pendingNoteLoader.get());
+        }
+        TreeSet<Note> updatedNotes = patientToEdit.getNotes();
 
         return new Patient(updatedName, updatedPhone, updatedAddress, updatedTags, updatedNotes);
     }
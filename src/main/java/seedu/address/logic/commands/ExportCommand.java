@@ -0,0 +1,86 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.patient.Patient;
+import seedu.address.storage.PatientExportFile;
+
+/**
+ * Writes the patients currently shown, with their notes, to a CSV or Markdown file.
+ * Narrow the patients shown with {@code find} first to export only some of them.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Writes the patients currently shown, with their "
+            + "notes, to a CSV or Markdown file, replacing the file if it exists.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " reports/patients.md";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d patients to %2$s";
+    public static final String MESSAGE_UNSUPPORTED_FILE = "Patients can only be exported to "
+            + PatientExportFile.CSV_EXTENSION + " and " + PatientExportFile.MARKDOWN_EXTENSION + " files.";
+    public static final String MESSAGE_WRITE_FAILURE = "Could not write %1$s: %2$s";
+    public static final String MESSAGE_NO_PATIENTS = "There are no patients shown to export";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ExportCommand to write the patients shown to {@code filePath}.
+     */
+    public ExportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Patient> patients = model.getFilteredPatientList();
+        if (patients.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_PATIENTS);
+        }
+
+        try {
+            PatientExportFile.write(filePath, patients);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_WRITE_FAILURE, filePath, ioe.getMessage()), ioe);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, patients.size(), filePath));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
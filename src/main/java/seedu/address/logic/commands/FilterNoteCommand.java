@@ -64,8 +64,9 @@ public class FilterNoteCommand extends Command {
             throw new CommandException(String.format(MESSAGE_NO_NOTES, index.getOneBased()));
         }
 
+        String lowerCaseTitle = title.toLowerCase();
         List<Note> matchingNotes = allNotes.stream()
-                .filter(note -> note.getTitle().toLowerCase().contains(title.toLowerCase()))
+                .filter(note -> note.getTitle().toLowerCase().contains(lowerCaseTitle))
                 .collect(Collectors.toList());
 
         if (matchingNotes.isEmpty()) {
@@ -80,6 +81,11 @@ public class FilterNoteCommand extends Command {
                 null);
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
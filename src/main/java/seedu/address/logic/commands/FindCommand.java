@@ -30,11 +30,16 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPatientList(predicate);
+        model.findPatients(predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PATIENTS_LISTED_OVERVIEW, model.getFilteredPatientList().size()));
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,173 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.patient.Patient;
+import seedu.address.storage.PatientImportFile;
+import seedu.address.storage.PatientImportFile.ImportRow;
+
+/**
+ * Adds all the patients in a CSV or JSON file to the app, as a single change.
+ *
+ * The file is read a batch of rows at a time, and each batch is validated in parallel and converted to patients
+ * before the next is read, so only the patients to add are held in memory. They are only added if all of them are
+ * valid, so that a file can be fixed and imported again without adding some of its patients twice. As the whole
+ * import is one command, the address book is saved once and a single undo removes every imported patient.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds all the patients in a CSV or JSON file. "
+            + "A CSV file needs a header row with the columns name, phone and address, and may have a tags column "
+            + "with tags separated by spaces.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " clinic-patients.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d patients from %2$s";
+    public static final String MESSAGE_UNSUPPORTED_FILE = "Only " + PatientImportFile.CSV_EXTENSION + " and "
+            + PatientImportFile.JSON_EXTENSION + " files can be imported.";
+    public static final String MESSAGE_READ_FAILURE = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_NO_PATIENTS = "There are no patients to import in %1$s";
+    public static final String MESSAGE_INVALID_ROWS = "No patients were imported, as %1$d of the %2$d patients in "
+            + "%3$s are invalid:\n%4$s";
+    public static final String MESSAGE_ROW_ERROR = "Row %1$d: %2$s";
+    public static final String MESSAGE_ALREADY_EXISTS = "%1$s already exists in the app";
+    public static final String MESSAGE_DUPLICATE_ROW = "%1$s is also in row %2$d";
+    public static final String MESSAGE_MORE_ERRORS = "... and %1$d more";
+
+    static final int MAX_REPORTED_ERRORS = 10;
+    static final int BATCH_SIZE = 4096;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to add the patients in {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        ImportValidation validation = new ImportValidation(model);
+        try {
+            PatientImportFile.read(filePath, BATCH_SIZE, validation::validate);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILURE, filePath, ioe.getMessage()), ioe);
+        }
+        if (validation.rowCount == 0) {
+            throw new CommandException(String.format(MESSAGE_NO_PATIENTS, filePath));
+        }
+        if (!validation.rowErrors.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_INVALID_ROWS, validation.rowErrors.size(),
+                    validation.rowCount, filePath, formatErrors(validation.rowErrors)));
+        }
+
+        model.addPatients(validation.patients);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, validation.patients.size(), filePath));
+    }
+
+    /**
+     * Returns the first {@link #MAX_REPORTED_ERRORS} of {@code rowErrors}, one per line.
+     */
+    private static String formatErrors(List<String> rowErrors) {
+        List<String> reportedErrors = new ArrayList<>(rowErrors.subList(0,
+                Math.min(rowErrors.size(), MAX_REPORTED_ERRORS)));
+        if (rowErrors.size() > MAX_REPORTED_ERRORS) {
+            reportedErrors.add(String.format(MESSAGE_MORE_ERRORS, rowErrors.size() - MAX_REPORTED_ERRORS));
+        }
+        return String.join("\n", reportedErrors);
+    }
+
+    /**
+     * The patients and errors found so far in the rows of a file, which are validated a batch at a time as the
+     * file is read.
+     */
+    private static class ImportValidation {
+        private final Model model;
+        private final List<Patient> patients = new ArrayList<>();
+        private final List<String> rowErrors = new ArrayList<>();
+        private final Map<String, Integer> rowNumbersByIdentity = new HashMap<>();
+        private int rowCount;
+
+        ImportValidation(Model model) {
+            this.model = model;
+        }
+
+        /**
+         * Converts {@code batch} to patients in parallel, then checks them against the patients of earlier rows
+         * and of the app, in order.
+         */
+        void validate(List<ImportRow> batch) {
+            Patient[] batchPatients = new Patient[batch.size()];
+            String[] errors = new String[batch.size()];
+            IntStream.range(0, batch.size()).parallel().forEach(i -> {
+                try {
+                    batchPatients[i] = batch.get(i).toModelType();
+                } catch (IllegalValueException ive) {
+                    errors[i] = ive.getMessage();
+                }
+            });
+
+            rowCount += batch.size();
+            for (int i = 0; i < batch.size(); i++) {
+                int rowNumber = batch.get(i).getRowNumber();
+                if (errors[i] != null) {
+                    rowErrors.add(String.format(MESSAGE_ROW_ERROR, rowNumber, errors[i]));
+                    continue;
+                }
+                Patient patient = batchPatients[i];
+                String name = patient.getName().fullName;
+                Integer firstRowNumber = rowNumbersByIdentity.putIfAbsent(patient.getName().getIdentityKey(),
+                        rowNumber);
+                if (firstRowNumber != null) {
+                    rowErrors.add(String.format(MESSAGE_ROW_ERROR, rowNumber,
+                            String.format(MESSAGE_DUPLICATE_ROW, name, firstRowNumber)));
+                } else if (model.hasPatient(patient)) {
+                    rowErrors.add(String.format(MESSAGE_ROW_ERROR, rowNumber,
+                            String.format(MESSAGE_ALREADY_EXISTS, name)));
+                } else if (rowErrors.isEmpty()) {
+                    patients.add(patient);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
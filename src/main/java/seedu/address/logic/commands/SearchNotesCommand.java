@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.note.NoteSearchHit;
+
+/**
+ * Searches the titles and contents of the notes of all patients, and displays the best matches first.
+ * Keyword matching is case insensitive, and a keyword also matches words that start with it.
+ */
+public class SearchNotesCommand extends Command {
+
+    public static final String COMMAND_WORD = "searchnotes";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Searches the notes of all patients for notes whose "
+            + "titles or contents contain any of the specified keywords (case-insensitive), "
+            + "and displays them with the best matches first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " medication review";
+
+    public static final String MESSAGE_SUCCESS = "%1$d matching notes found. See notes panel below.";
+    public static final String MESSAGE_NO_MATCHES = "No notes match the given keywords.";
+
+    /** Maximum number of notes shown for one search. */
+    public static final int MAX_HITS = 50;
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a SearchNotesCommand to search notes for any of {@code keywords}.
+     */
+    public SearchNotesCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<NoteSearchHit> hits = model.searchNotes(keywords, MAX_HITS);
+        if (hits.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_MATCHES, hits);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, hits.size()), hits);
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchNotesCommand)) {
+            return false;
+        }
+
+        SearchNotesCommand otherSearchNotesCommand = (SearchNotesCommand) other;
+        return keywords.equals(otherSearchNotesCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.HistoryFootprint;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long commands have taken and how much memory they allocated since the app started,
+ * together with the size of the undo history.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how long each command has taken since the app "
+            + "started, phase by phase, in microseconds.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Command timings (microseconds) since start-up:\n%1$s"
+            + "Undo history: %2$d undo steps, %3$d redo steps, about %4$d KB";
+
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Creates a StatsCommand to show the metrics in {@code commandMetrics}.
+     */
+    public StatsCommand(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+        this.commandMetrics = commandMetrics;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        HistoryFootprint footprint = model.getUndoHistoryFootprint();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandMetrics.format(), footprint.getUndoSteps(),
+                footprint.getRedoSteps(), footprint.getApproximateBytes() / 1024));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return commandMetrics == otherStatsCommand.commandMetrics;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandMetrics", commandMetrics)
+                .toString();
+    }
+}
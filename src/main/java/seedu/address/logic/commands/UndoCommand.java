@@ -21,6 +21,14 @@ public class UndoCommand extends Command {
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
+    /**
+     * Undo history is moved through by this command, not extended.
+     */
+    @Override
+    public boolean isUndoable() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -64,11 +64,12 @@ public class ViewNotesCommand extends Command {
 
         if (parameter.equalsIgnoreCase(ALL_PARAMETER)) {
             logger.info("Viewing notes for all patients");
+            // A copy, as the result is shown on the UI thread while later commands may change the list
             return new CommandResult(MESSAGE_SUCCESS_ALL,
                     false, false, true,
                     "all patients",
                     null,
-                    lastShownList);
+                    List.copyOf(lastShownList));
         }
 
         try {
@@ -91,6 +92,11 @@ public class ViewNotesCommand extends Command {
         }
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,68 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
+
+/**
+ * A Java Flight Recorder event for one command, lasting from parsing the command until it has been recorded in the
+ * undo history.
+ *
+ * The event costs next to nothing unless a flight recording is running. Like {@code CommandMetrics}, it only
+ * holds the command word, never the rest of what the user typed.
+ */
+@Name("seedu.address.Command")
+@Label("Command")
+@Category({"NeuroSync", "Logic"})
+@Description("A command run by the user")
+public class CommandEvent extends Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Parse Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long parseDuration;
+
+    @Label("Execute Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long executeDuration;
+
+    @Label("Save Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long saveDuration;
+
+    @Label("Snapshot Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long snapshotDuration;
+
+    @Label("Patient Count")
+    @Description("The number of patients in the address book after the command")
+    private int patientCount;
+
+    /**
+     * Ends the event and commits it, with the phase durations of the finished {@code recording}, if a flight
+     * recording is interested in it.
+     */
+    public void commit(String commandWord, CommandMetrics.Recording recording, int patientCount) {
+        requireNonNull(commandWord);
+        requireNonNull(recording);
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.commandWord = commandWord;
+        this.parseDuration = recording.getPhaseNanos(Phase.PARSE);
+        this.executeDuration = recording.getPhaseNanos(Phase.EXECUTE);
+        this.saveDuration = recording.getPhaseNanos(Phase.SAVE);
+        this.snapshotDuration = recording.getPhaseNanos(Phase.SNAPSHOT);
+        this.patientCount = patientCount;
+        commit();
+    }
+}
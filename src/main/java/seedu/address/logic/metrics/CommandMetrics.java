@@ -0,0 +1,179 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Records how long each phase of every command takes and how many bytes it allocates, by command word.
+ *
+ * A command is recorded through a {@link Recording}, which times the phases the command goes through.
+ * Allocated bytes are those allocated by the thread running the command, as reported by the JVM's
+ * {@code ThreadMXBean}, and are not recorded on JVMs that do not report them.
+ * Commands that could not be parsed are recorded under {@link #INVALID_COMMAND_WORD}, so that user input other
+ * than command words never ends up in the metrics.
+ * Thread-safe.
+ */
+public class CommandMetrics {
+
+    public static final String INVALID_COMMAND_WORD = "(invalid)";
+
+    /**
+     * The phases of running a command.
+     */
+    public enum Phase {
+        /** Parsing the command text into a command. */
+        PARSE,
+        /** Executing the command on the model. */
+        EXECUTE,
+        /** Handing the changed address book to storage. */
+        SAVE,
+        /** Recording the state after the command in the undo history. */
+        SNAPSHOT
+    }
+
+    private static final long NANOS_PER_MICRO = 1000;
+
+    private final Map<String, CommandStats> statsByCommandWord = new TreeMap<>();
+    private long recordedCommands;
+
+    /**
+     * Returns a recording of a command that starts now.
+     */
+    public Recording startRecording() {
+        return new Recording();
+    }
+
+    /**
+     * Returns the number of commands recorded so far.
+     */
+    public synchronized long getRecordedCommandCount() {
+        return recordedCommands;
+    }
+
+    /**
+     * Returns a table of the recorded metrics, one row per command word and phase.
+     * Durations are in microseconds.
+     */
+    public synchronized String format() {
+        StringBuilder table = new StringBuilder(String.format("%-12s %-9s %7s %10s %10s %10s %10s%n",
+                "command", "phase", "count", "mean", "p50", "p99", "max"));
+        statsByCommandWord.forEach((commandWord, stats) -> {
+            stats.phaseNanos.forEach((phase, histogram) -> table.append(String.format(
+                    "%-12s %-9s %7d %10d %10d %10d %10d%n", commandWord, phase.name().toLowerCase(),
+                    histogram.getCount(), histogram.getMean() / NANOS_PER_MICRO,
+                    histogram.getPercentile(50) / NANOS_PER_MICRO, histogram.getPercentile(99) / NANOS_PER_MICRO,
+                    histogram.getMax() / NANOS_PER_MICRO)));
+            Histogram bytes = stats.allocatedBytes;
+            if (bytes.getCount() > 0) {
+                table.append(String.format("%-12s %-9s %7d %10d %10d %10d %10d%n", commandWord, "alloc(KB)",
+                        bytes.getCount(), bytes.getMean() / 1024, bytes.getPercentile(50) / 1024,
+                        bytes.getPercentile(99) / 1024, bytes.getMax() / 1024));
+            }
+        });
+        return table.toString();
+    }
+
+    /**
+     * Writes {@link #format()} to {@code file}, headed by the current time, replacing what the file held.
+     */
+    public void writeTo(Path file) throws IOException {
+        requireNonNull(file);
+        FileUtil.writeToFile(file, "Command metrics at " + LocalDateTime.now() + "\n" + format());
+    }
+
+    private synchronized void record(String commandWord, Map<Phase, Long> phaseNanos, long allocatedBytes) {
+        CommandStats stats = statsByCommandWord.computeIfAbsent(commandWord, unused -> new CommandStats());
+        phaseNanos.forEach((phase, nanos) ->
+                stats.phaseNanos.computeIfAbsent(phase, unused -> new Histogram()).record(nanos));
+        if (allocatedBytes >= 0) {
+            stats.allocatedBytes.record(allocatedBytes);
+        }
+        recordedCommands++;
+    }
+
+    /**
+     * Returns the bytes allocated so far by the current thread, or -1 if the JVM does not report them.
+     */
+    private static long getCurrentThreadAllocatedBytes() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        if (!allocationBean.isThreadAllocatedMemorySupported() || !allocationBean.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return allocationBean.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * The metrics of one command word.
+     */
+    private static class CommandStats {
+        private final Map<Phase, Histogram> phaseNanos = new EnumMap<>(Phase.class);
+        private final Histogram allocatedBytes = new Histogram();
+    }
+
+    /**
+     * The recording of one command, to be used by the thread running the command.
+     * Each phase lasts from its {@link #startPhase(Phase)} until the next phase starts or the recording finishes.
+     */
+    public class Recording {
+
+        private final Map<Phase, Long> phaseNanos = new EnumMap<>(Phase.class);
+        private final long startAllocatedBytes = getCurrentThreadAllocatedBytes();
+        private Phase currentPhase;
+        private long currentPhaseStart;
+
+        private Recording() {}
+
+        /**
+         * Ends the current phase, if any, and starts {@code phase}.
+         */
+        public void startPhase(Phase phase) {
+            requireNonNull(phase);
+            long now = System.nanoTime();
+            endCurrentPhase(now);
+            currentPhase = phase;
+            currentPhaseStart = now;
+        }
+
+        /**
+         * Ends the current phase and records the command under {@code commandWord}.
+         */
+        public void finish(String commandWord) {
+            requireNonNull(commandWord);
+            endCurrentPhase(System.nanoTime());
+            long endAllocatedBytes = getCurrentThreadAllocatedBytes();
+            long allocatedBytes = startAllocatedBytes < 0 || endAllocatedBytes < 0
+                    ? -1
+                    : endAllocatedBytes - startAllocatedBytes;
+            record(commandWord, phaseNanos, allocatedBytes);
+        }
+
+        /**
+         * Returns how long {@code phase} has lasted in the phases ended so far, or 0 if it never started.
+         */
+        public long getPhaseNanos(Phase phase) {
+            requireNonNull(phase);
+            return phaseNanos.getOrDefault(phase, 0L);
+        }
+
+        private void endCurrentPhase(long now) {
+            if (currentPhase != null) {
+                phaseNanos.merge(currentPhase, now - currentPhaseStart, Long::sum);
+                currentPhase = null;
+            }
+        }
+    }
+}
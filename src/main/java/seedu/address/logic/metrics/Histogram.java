@@ -0,0 +1,66 @@
+package seedu.address.logic.metrics;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * A histogram of non-negative values, such as durations in nanoseconds or sizes in bytes.
+ *
+ * Values are counted in buckets whose bounds are powers of two, so the histogram takes constant space, and
+ * percentiles are accurate to within a factor of two. The count, total and maximum are exact.
+ * Not thread-safe.
+ */
+public class Histogram {
+
+    /** Bucket {@code i} counts the values of {@code i} bits, that is from {@code 2^(i-1)} to {@code 2^i - 1}. */
+    private final long[] buckets = new long[Long.SIZE];
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * Adds {@code value} to the histogram.
+     */
+    public void record(long value) {
+        checkArgument(value >= 0, "Values must not be negative");
+        buckets[Long.SIZE - Long.numberOfLeadingZeros(value)]++;
+        count++;
+        total += value;
+        max = Math.max(max, value);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the mean of the values, or 0 if there are none.
+     */
+    public long getMean() {
+        return count == 0 ? 0 : total / count;
+    }
+
+    /**
+     * Returns an upper bound, within a factor of two, of the value that {@code percentile} percent of the values
+     * are at most, or 0 if there are no values.
+     */
+    public long getPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "Percentiles are between 0 and 100");
+        long rank = (long) Math.ceil(count * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank && seen > 0) {
+                return Math.min((1L << i) - 1, max);
+            }
+        }
+        return 0;
+    }
+}
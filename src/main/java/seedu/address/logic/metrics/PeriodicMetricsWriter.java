@@ -0,0 +1,80 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Writes {@code CommandMetrics} to a file at a fixed interval, on a background thread.
+ * The file is only rewritten when commands have been recorded since it was last written.
+ */
+public class PeriodicMetricsWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(PeriodicMetricsWriter.class);
+
+    private final CommandMetrics commandMetrics;
+    private final Path metricsFile;
+    private ScheduledExecutorService executor;
+    private long writtenCommandCount;
+
+    /**
+     * Creates a writer of {@code commandMetrics} to {@code metricsFile}.
+     */
+    public PeriodicMetricsWriter(CommandMetrics commandMetrics, Path metricsFile) {
+        requireNonNull(commandMetrics);
+        requireNonNull(metricsFile);
+        this.commandMetrics = commandMetrics;
+        this.metricsFile = metricsFile;
+    }
+
+    /**
+     * Starts writing the metrics every {@code intervalSeconds}.
+     */
+    public synchronized void start(int intervalSeconds) {
+        checkArgument(intervalSeconds > 0, "The interval must be positive");
+        checkArgument(executor == null, "Already started");
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::writeIfChanged, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops writing the metrics periodically, and writes them one last time if they changed.
+     */
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        writeIfChanged();
+    }
+
+    /**
+     * Writes the metrics if commands have been recorded since they were last written.
+     * Failures are logged, as metrics are not worth interrupting the user for.
+     */
+    synchronized void writeIfChanged() {
+        long commandCount = commandMetrics.getRecordedCommandCount();
+        if (commandCount == writtenCommandCount) {
+            return;
+        }
+        try {
+            commandMetrics.writeTo(metricsFile);
+            writtenCommandCount = commandCount;
+        } catch (IOException ioe) {
+            logger.warning("Failed to write metrics to " + metricsFile + ": " + StringUtil.getDetails(ioe));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
@@ -16,14 +17,19 @@ import seedu.address.logic.commands.DeleteNoteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditNoteCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FilterNoteCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.NoteCommand;
 import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SearchNotesCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.ViewNotesCommand;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -37,6 +43,23 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Creates a parser whose {@code stats} command shows metrics that nothing records.
+     */
+    public AddressBookParser() {
+        this(new CommandMetrics());
+    }
+
+    /**
+     * Creates a parser whose {@code stats} command shows {@code commandMetrics}.
+     */
+    public AddressBookParser(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+        this.commandMetrics = commandMetrics;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -96,6 +119,9 @@ public class AddressBookParser {
         case ViewNotesCommand.COMMAND_WORD:
             return new ViewNotesCommandParser().parse(arguments);
 
+        case SearchNotesCommand.COMMAND_WORD:
+            return new SearchNotesCommandParser().parse(arguments);
+
         case UndoCommand.COMMAND_WORD:
             return new UndoCommand();
 
@@ -105,6 +131,15 @@ public class AddressBookParser {
         case EditNoteCommand.COMMAND_WORD:
             return new EditNoteCommandParser().parse(arguments);
 
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand(commandMetrics);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
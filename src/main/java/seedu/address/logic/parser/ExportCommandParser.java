@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.PatientExportFile;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object.
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ExportCommand parse(String args) throws ParseException {
+        if (args.isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath = ParserUtil.parseFilePath(args);
+        if (!PatientExportFile.isSupported(filePath)) {
+            throw new ParseException(ExportCommand.MESSAGE_UNSUPPORTED_FILE);
+        }
+        return new ExportCommand(filePath);
+    }
+}
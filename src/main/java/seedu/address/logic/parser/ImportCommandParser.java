@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.PatientImportFile;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object.
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ImportCommand parse(String args) throws ParseException {
+        if (args.isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath = ParserUtil.parseFilePath(args);
+        if (!PatientImportFile.isSupported(filePath)) {
+            throw new ParseException(ImportCommand.MESSAGE_UNSUPPORTED_FILE);
+        }
+        return new ImportCommand(filePath);
+    }
+}
@@ -3,13 +3,19 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.UndoHistorySettings;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.exceptions.RedoException;
 import seedu.address.model.exceptions.UndoException;
+import seedu.address.model.note.Note;
+import seedu.address.model.note.NoteSearchHit;
+import seedu.address.model.patient.NameContainsKeywordsPredicate;
 import seedu.address.model.patient.Patient;
 import seedu.address.model.patient.UniquePatientList;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level
@@ -17,8 +23,17 @@ import seedu.address.model.patient.UniquePatientList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    // Rough per-object costs on a 64-bit JVM, used only to keep the undo history within its byte budget.
+    private static final long PATIENT_BYTES = 256;
+    private static final long TAG_BYTES = 64;
+    private static final long NOTE_BYTES = 128;
+    private static final long BYTES_PER_CHAR = 2;
+    private static final long LIST_NODE_BYTES = 40;
+
     private final UniquePatientList patients;
     private final VersionedAddressBook versionedAddressBook = new VersionedAddressBook();
+    /** Approximate bytes of data replaced since the last saved state, which only that state now holds. */
+    private long replacedBytesSinceSave;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -39,7 +54,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
         this();
         resetData(toBeCopied);
-        versionedAddressBook.saveState(toBeCopied);
+        saveState();
     }
 
     //// list overwrite operations
@@ -49,7 +64,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code patients} must not contain duplicate patients.
      */
     public void setPatients(List<Patient> patients) {
+        long replacedBytes = estimateListBytes();
         this.patients.setPatients(patients);
+        replacedBytesSinceSave += replacedBytes;
     }
 
     /**
@@ -58,6 +75,13 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBookSnapshot) {
+            // Adopt the snapshot's structure so that states saved from now on keep sharing it.
+            patients.setPatients(((AddressBookSnapshot) newData).getPatients());
+            // The data now matches a state in the history, which holds everything the next state replaces.
+            replacedBytesSinceSave = 0;
+            return;
+        }
         setPatients(newData.getPatientList());
     }
 
@@ -77,6 +101,18 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPatient(Patient p) {
         patients.add(p);
+        replacedBytesSinceSave += estimatePathBytes();
+    }
+
+    /**
+     * Adds all of {@code patients} to the app, as a single change.
+     * None of them may already exist in the app, nor be duplicates of each other.
+     */
+    public void addPatients(List<Patient> patients) {
+        requireNonNull(patients);
+        this.patients.addAll(patients);
+        // The appended patients only replace the nodes along the end of the list, however many there are.
+        replacedBytesSinceSave += estimatePathBytes();
     }
 
     /**
@@ -89,6 +125,25 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPatient);
 
         patients.setPatient(target, editedPatient);
+        replacedBytesSinceSave += estimatePathBytes() + estimateBytes(target);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that looks matching patients up through an index
+     * instead of testing every patient.
+     */
+    public Predicate<Patient> narrow(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return patients.narrow(predicate);
+    }
+
+    /**
+     * Returns up to {@code limit} notes, across all patients, that contain any of {@code keywords},
+     * best match first.
+     */
+    public List<NoteSearchHit> searchNotes(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        return patients.searchNotes(keywords, limit);
     }
 
     /**
@@ -97,6 +152,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePatient(Patient key) {
         patients.remove(key);
+        replacedBytesSinceSave += estimatePathBytes() + estimateBytes(key);
     }
 
     //// util methods
@@ -134,11 +190,37 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Stores the current states.
+     * Returns an immutable copy of the current state.
+     * The copy shares its structure with the live patient list, so this takes constant time and memory.
+     */
+    public ReadOnlyAddressBook snapshot() {
+        return new AddressBookSnapshot(patients.asPersistentList());
+    }
+
+    /**
+     * Stores the current state in the undo/redo history.
+     * The state shares its structure with the live patient list, so this takes constant time and memory.
      */
     public void saveState() {
-        ReadOnlyAddressBook copy = new AddressBook(this);
-        versionedAddressBook.saveState(copy);
+        SnapshotEvent event = new SnapshotEvent();
+        event.begin();
+        versionedAddressBook.saveState(snapshot(), replacedBytesSinceSave);
+        event.commit(patients.asUnmodifiableObservableList().size(), replacedBytesSinceSave, versionedAddressBook);
+        replacedBytesSinceSave = 0;
+    }
+
+    /**
+     * Replaces the limits of the undo/redo history, dropping the oldest states that no longer fit.
+     */
+    public void setUndoHistorySettings(UndoHistorySettings settings) {
+        versionedAddressBook.setSettings(settings);
+    }
+
+    /**
+     * Returns a report of the current size of the undo/redo history.
+     */
+    public HistoryFootprint getUndoHistoryFootprint() {
+        return versionedAddressBook.getFootprint();
     }
 
     /**
@@ -156,4 +238,43 @@ public class AddressBook implements ReadOnlyAddressBook {
         ReadOnlyAddressBook res = versionedAddressBook.getFutureState();
         return res;
     }
+
+    //// memory estimates for the undo/redo history
+
+    /**
+     * Returns the approximate bytes of the list nodes that a single-patient update copies.
+     */
+    private long estimatePathBytes() {
+        int depth = Integer.SIZE - Integer.numberOfLeadingZeros(patients.asPersistentList().size() + 1);
+        return depth * LIST_NODE_BYTES;
+    }
+
+    private long estimateListBytes() {
+        long bytes = 0;
+        for (Patient patient : patients) {
+            bytes += LIST_NODE_BYTES + estimateBytes(patient);
+        }
+        return bytes;
+    }
+
+    private static long estimateBytes(Patient patient) {
+        // The name is held twice: as entered, and case-folded as the identity key.
+        long chars = patient.getName().fullName.length() * 2L
+                + patient.getPhone().value.length()
+                + patient.getAddress().value.length();
+        long bytes = PATIENT_BYTES;
+        for (Tag tag : patient.getTags()) {
+            bytes += TAG_BYTES;
+            chars += tag.tagName.length();
+        }
+        if (patient.getPendingNoteLoader().isPresent()) {
+            // Notes that have not been loaded take no memory, and estimating them must not load them.
+            return bytes + chars * BYTES_PER_CHAR;
+        }
+        for (Note note : patient.getNotes()) {
+            bytes += NOTE_BYTES;
+            chars += note.getTitle().length() + note.getContent().length();
+        }
+        return bytes + chars * BYTES_PER_CHAR;
+    }
 }
@@ -0,0 +1,68 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.patient.Patient;
+
+/**
+ * An immutable state of an {@code AddressBook}, as kept in its undo/redo history.
+ * The patients are held in a {@code PersistentList} that shares its structure with the neighbouring states,
+ * so each state only costs the handful of nodes that changed since the previous one.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersistentList<Patient> patients;
+    private ObservableList<Patient> patientList;
+
+    AddressBookSnapshot(PersistentList<Patient> patients) {
+        requireNonNull(patients);
+        this.patients = patients;
+    }
+
+    PersistentList<Patient> getPatients() {
+        return patients;
+    }
+
+    /**
+     * Returns the patients of this state. The list is only built on first use, as most states are never read.
+     */
+    @Override
+    public ObservableList<Patient> getPatientList() {
+        if (patientList == null) {
+            patientList = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(patients.toList()));
+        }
+        return patientList;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return patients.equals(otherSnapshot.patients);
+    }
+
+    @Override
+    public int hashCode() {
+        return patients.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("patients", patients)
+                .toString();
+    }
+}
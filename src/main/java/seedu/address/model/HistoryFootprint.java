@@ -0,0 +1,95 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.core.UndoHistorySettings;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A report of how much the undo/redo history currently holds, next to the limits it is held to.
+ * Guarantees: immutable.
+ */
+public class HistoryFootprint {
+
+    private final int undoSteps;
+    private final int redoSteps;
+    private final long approximateBytes;
+    private final int evictedSteps;
+    private final UndoHistorySettings limits;
+
+    /**
+     * Constructs a {@code HistoryFootprint}.
+     *
+     * @param undoSteps number of steps that can currently be undone.
+     * @param redoSteps number of steps that can currently be redone.
+     * @param approximateBytes estimated memory held only by the history, beyond the current data.
+     * @param evictedSteps number of oldest steps dropped so far to stay within {@code limits}.
+     * @param limits the limits the history is held to.
+     */
+    public HistoryFootprint(int undoSteps, int redoSteps, long approximateBytes, int evictedSteps,
+            UndoHistorySettings limits) {
+        requireNonNull(limits);
+        this.undoSteps = undoSteps;
+        this.redoSteps = redoSteps;
+        this.approximateBytes = approximateBytes;
+        this.evictedSteps = evictedSteps;
+        this.limits = limits;
+    }
+
+    public int getUndoSteps() {
+        return undoSteps;
+    }
+
+    public int getRedoSteps() {
+        return redoSteps;
+    }
+
+    public long getApproximateBytes() {
+        return approximateBytes;
+    }
+
+    public int getEvictedSteps() {
+        return evictedSteps;
+    }
+
+    public UndoHistorySettings getLimits() {
+        return limits;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HistoryFootprint)) {
+            return false;
+        }
+
+        HistoryFootprint otherFootprint = (HistoryFootprint) other;
+        return undoSteps == otherFootprint.undoSteps
+                && redoSteps == otherFootprint.redoSteps
+                && approximateBytes == otherFootprint.approximateBytes
+                && evictedSteps == otherFootprint.evictedSteps
+                && limits.equals(otherFootprint.limits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(undoSteps, redoSteps, approximateBytes, evictedSteps, limits);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("undoSteps", undoSteps)
+                .add("redoSteps", redoSteps)
+                .add("approximateBytes", approximateBytes)
+                .add("evictedSteps", evictedSteps)
+                .add("limits", limits)
+                .toString();
+    }
+}
@@ -1,11 +1,14 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.note.NoteSearchHit;
+import seedu.address.model.patient.NameContainsKeywordsPredicate;
 import seedu.address.model.patient.Patient;
 
 /**
@@ -78,6 +81,12 @@ public interface Model {
      */
     void addPatient(Patient patient);
 
+    /**
+     * Adds all of the given patients, as a single change.
+     * None of {@code patients} may already exist in the app, nor be duplicates of each other.
+     */
+    void addPatients(List<Patient> patients);
+
     /**
      * Replaces the given patient {@code target} with {@code editedPatient}.
      * {@code target} must exist in the app.
@@ -95,6 +104,20 @@ public interface Model {
      */
     void updateFilteredPatientList(Predicate<Patient> predicate);
 
+    /**
+     * Updates the filter of the filtered patient list to the patients matching {@code predicate}.
+     * Unlike {@link #updateFilteredPatientList(Predicate)}, candidates are looked up through an index
+     * rather than by testing every patient.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findPatients(NameContainsKeywordsPredicate predicate);
+
+    /**
+     * Returns up to {@code limit} notes, across all patients, that contain any of the given keywords,
+     * best match first.
+     */
+    List<NoteSearchHit> searchNotes(List<String> keywords, int limit);
+
     /**
      * Undoes the previous actions of users.
      */
@@ -109,4 +132,19 @@ public interface Model {
      * Saves current state of model before execution.
      */
     void saveAddressBook();
+
+    /**
+     * Returns a report of the current size of the undo/redo history.
+     */
+    HistoryFootprint getUndoHistoryFootprint();
+
+    /**
+     * Returns true if the address book has changed since it was last marked as saved.
+     */
+    boolean hasUnsavedChanges();
+
+    /**
+     * Marks the current address book data as written to storage.
+     */
+    void markAddressBookSaved();
 }
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -12,6 +13,8 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.note.NoteSearchHit;
+import seedu.address.model.patient.NameContainsKeywordsPredicate;
 import seedu.address.model.patient.Patient;
 
 /**
@@ -23,6 +26,7 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Patient> filteredPatients;
+    private boolean hasUnsavedChanges;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -34,7 +38,8 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPatients = new FilteredList<>(this.addressBook.getPatientList());
+        this.addressBook.setUndoHistorySettings(this.userPrefs.getUndoHistorySettings());
+        filteredPatients = new FilteredList<>(this.addressBook.getPatientList(), PREDICATE_SHOW_ALL_PATIENTS);
     }
 
     public ModelManager() {
@@ -47,6 +52,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        addressBook.setUndoHistorySettings(this.userPrefs.getUndoHistorySettings());
     }
 
     @Override
@@ -81,6 +87,7 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        hasUnsavedChanges = true;
     }
 
     @Override
@@ -97,16 +104,27 @@ public class ModelManager implements Model {
     @Override
     public void deletePatient(Patient target) {
         addressBook.removePatient(target);
+        hasUnsavedChanges = true;
     }
 
     @Override
     public void deletePatientNote(Patient target, Patient editedPatient) {
         addressBook.setPatient(target, editedPatient);
+        hasUnsavedChanges = true;
     }
 
     @Override
     public void addPatient(Patient patient) {
         addressBook.addPatient(patient);
+        hasUnsavedChanges = true;
+        updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
+    }
+
+    @Override
+    public void addPatients(List<Patient> patients) {
+        requireNonNull(patients);
+        addressBook.addPatients(patients);
+        hasUnsavedChanges = true;
         updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
     }
 
@@ -115,6 +133,13 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPatient);
 
         addressBook.setPatient(target, editedPatient);
+        hasUnsavedChanges = true;
+    }
+
+    @Override
+    public List<NoteSearchHit> searchNotes(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        return addressBook.searchNotes(keywords, limit);
     }
 
     //=========== Filtered Patient List Accessors =============================================================
@@ -131,9 +156,19 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPatientList(Predicate<Patient> predicate) {
         requireNonNull(predicate);
+        if (predicate == filteredPatients.getPredicate()) {
+            // The list already follows changes to the patients, so filtering it again would only replace it whole.
+            return;
+        }
         filteredPatients.setPredicate(predicate);
     }
 
+    @Override
+    public void findPatients(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        filteredPatients.setPredicate(addressBook.narrow(predicate));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -166,5 +201,21 @@ public class ModelManager implements Model {
     @Override
     public void saveAddressBook() {
         addressBook.saveState();
+        logger.fine("Undo history: " + addressBook.getUndoHistoryFootprint());
+    }
+
+    @Override
+    public HistoryFootprint getUndoHistoryFootprint() {
+        return addressBook.getUndoHistoryFootprint();
+    }
+
+    @Override
+    public boolean hasUnsavedChanges() {
+        return hasUnsavedChanges;
+    }
+
+    @Override
+    public void markAddressBookSaved() {
+        hasUnsavedChanges = false;
     }
 }
@@ -2,7 +2,9 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.UndoHistorySettings;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +15,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    DataFileFormat getAddressBookFileFormat();
+
+    boolean isLazyNoteLoading();
+
+    UndoHistorySettings getUndoHistorySettings();
+
 }
@@ -0,0 +1,47 @@
+package seedu.address.model;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for saving a state of the address book in the undo/redo history.
+ * The event costs next to nothing unless a flight recording is running.
+ */
+@Name("seedu.address.Snapshot")
+@Label("Undo Snapshot")
+@Category({"NeuroSync", "Model"})
+@Description("A state of the address book saved in the undo/redo history")
+class SnapshotEvent extends Event {
+
+    @Label("Patient Count")
+    private int patientCount;
+
+    @Label("Snapshot Size")
+    @Description("Approximate size of the data that only this state holds")
+    @DataAmount
+    private long snapshotBytes;
+
+    @Label("History Size")
+    @Description("Approximate size of all the states in the undo/redo history")
+    @DataAmount
+    private long historyBytes;
+
+    /**
+     * Ends the event and commits it with the sizes of the new state and of {@code history}, if a flight recording
+     * is interested in it.
+     */
+    void commit(int patientCount, long snapshotBytes, VersionedAddressBook history) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.patientCount = patientCount;
+        this.snapshotBytes = snapshotBytes;
+        this.historyBytes = history.getFootprint().getApproximateBytes();
+        commit();
+    }
+}
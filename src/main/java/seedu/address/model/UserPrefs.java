@@ -6,7 +6,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.UndoHistorySettings;
 
 /**
  * Represents User's preferences.
@@ -15,6 +17,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private DataFileFormat addressBookFileFormat = DataFileFormat.JSON;
+    private boolean lazyNoteLoading = false;
+    private UndoHistorySettings undoHistorySettings = new UndoHistorySettings();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +41,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFileFormat(newUserPrefs.getAddressBookFileFormat());
+        setLazyNoteLoading(newUserPrefs.isLazyNoteLoading());
+        setUndoHistorySettings(newUserPrefs.getUndoHistorySettings());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +64,32 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public DataFileFormat getAddressBookFileFormat() {
+        return addressBookFileFormat;
+    }
+
+    public void setAddressBookFileFormat(DataFileFormat addressBookFileFormat) {
+        requireNonNull(addressBookFileFormat);
+        this.addressBookFileFormat = addressBookFileFormat;
+    }
+
+    public boolean isLazyNoteLoading() {
+        return lazyNoteLoading;
+    }
+
+    public void setLazyNoteLoading(boolean lazyNoteLoading) {
+        this.lazyNoteLoading = lazyNoteLoading;
+    }
+
+    public UndoHistorySettings getUndoHistorySettings() {
+        return undoHistorySettings;
+    }
+
+    public void setUndoHistorySettings(UndoHistorySettings undoHistorySettings) {
+        requireNonNull(undoHistorySettings);
+        this.undoHistorySettings = undoHistorySettings;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +103,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookFileFormat == otherUserPrefs.addressBookFileFormat
+                && lazyNoteLoading == otherUserPrefs.lazyNoteLoading
+                && undoHistorySettings.equals(otherUserPrefs.undoHistorySettings);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFileFormat, lazyNoteLoading,
+                undoHistorySettings);
     }
 
     @Override
@@ -82,6 +120,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFileFormat);
+        sb.append("\nLazy note loading : " + lazyNoteLoading);
+        sb.append("\nUndo history limits : " + undoHistorySettings);
         return sb.toString();
     }
 
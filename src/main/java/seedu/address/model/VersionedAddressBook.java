@@ -1,25 +1,35 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_REDO_FAILURE;
 import static seedu.address.logic.Messages.MESSAGE_UNDO_FAILURE;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.List;
 
+import seedu.address.commons.core.UndoHistorySettings;
 import seedu.address.model.exceptions.RedoException;
 import seedu.address.model.exceptions.UndoException;
 
 /**
- * Class to store past and future snapshots of patientlist
+ * Class to store past and future snapshots of patientlist.
+ * The history is bounded by an {@code UndoHistorySettings}: once it holds more undoable steps, or approximately
+ * more bytes, than allowed, the oldest snapshots are dropped.
  */
 public class VersionedAddressBook {
-    private final LinkedList<ReadOnlyAddressBook> list = new LinkedList<>();
+    private final List<ReadOnlyAddressBook> list = new ArrayList<>();
+    /** Approximate bytes that each snapshot keeps alive beyond the snapshot saved after it. */
+    private final List<Long> retainedBytes = new ArrayList<>();
+    private long totalRetainedBytes;
+    private int evictedSteps;
     private int pointer = -1;
+    private UndoHistorySettings settings = new UndoHistorySettings();
 
     /**
      * Gets future snapshots that have been undone.
      *
      * @return ReadOnlyAddressBook.
-     * @throws RedoException when the pointer has exceeded the size of linkedlist.
+     * @throws RedoException when the pointer has exceeded the size of the list.
      */
     public ReadOnlyAddressBook getFutureState() throws RedoException {
         if (!canRedo()) {
@@ -30,7 +40,7 @@ public class VersionedAddressBook {
     }
 
     /**
-     * Checks whether the pointer has exceeded the linkedlist when doing redo.
+     * Checks whether the pointer has exceeded the list when doing redo.
      */
     public boolean canRedo() {
         return pointer < list.size() - 1;
@@ -61,12 +71,61 @@ public class VersionedAddressBook {
      * Saves the state into the list.
      */
     public void saveState(ReadOnlyAddressBook state) {
+        saveState(state, 0);
+    }
+
+    /**
+     * Saves the state into the list, then drops the oldest states that no longer fit the history limits.
+     *
+     * @param replacedBytes approximate bytes of data that the current state holds but {@code state} no longer does.
+     */
+    public void saveState(ReadOnlyAddressBook state, long replacedBytes) {
         assert state != null;
+        assert replacedBytes >= 0;
 
         if (canRedo()) {
+            List<Long> discardedBytes = retainedBytes.subList(pointer + 1, retainedBytes.size());
+            totalRetainedBytes -= discardedBytes.stream().mapToLong(Long::longValue).sum();
+            discardedBytes.clear();
             list.subList(pointer + 1, list.size()).clear();
         }
+        if (pointer >= 0) {
+            totalRetainedBytes += replacedBytes - retainedBytes.set(pointer, replacedBytes);
+        }
         list.add(state);
+        retainedBytes.add(0L);
         pointer++;
+        evictOldestStates();
+    }
+
+    /**
+     * Replaces the history limits with {@code settings}, dropping the oldest states that no longer fit.
+     */
+    public void setSettings(UndoHistorySettings settings) {
+        requireNonNull(settings);
+        this.settings = settings;
+        evictOldestStates();
+    }
+
+    /**
+     * Returns a report of the current size of the history.
+     */
+    public HistoryFootprint getFootprint() {
+        return new HistoryFootprint(Math.max(pointer, 0), list.size() - 1 - pointer, totalRetainedBytes,
+                evictedSteps, settings);
+    }
+
+    /**
+     * Drops the oldest states while the history exceeds its limits.
+     * The state at the pointer is always kept, so undo can never move past the current state.
+     */
+    private void evictOldestStates() {
+        while (pointer > 0 && (list.size() - 1 > settings.getMaxSteps()
+                || totalRetainedBytes > settings.getMaxBytes())) {
+            list.remove(0);
+            totalRetainedBytes -= retainedBytes.remove(0);
+            pointer--;
+            evictedSteps++;
+        }
     }
 }
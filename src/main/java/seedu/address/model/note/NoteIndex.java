@@ -0,0 +1,263 @@
+package seedu.address.model.note;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import seedu.address.model.patient.Patient;
+
+/**
+ * An inverted index from the words in note titles and contents to the notes that contain them.
+ *
+ * The index is kept up to date patient by patient: when a patient is replaced, only the notes that differ between
+ * the old and new patient are re-indexed. Searches are ranked by a tf-idf score, where words in a note's title
+ * count more than words in its content, and a keyword also matches the longer words it is a prefix of.
+ */
+public class NoteIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int TITLE_WEIGHT = 3;
+    private static final int CONTENT_WEIGHT = 1;
+    private static final double PREFIX_MATCH_WEIGHT = 0.5;
+
+    /** Word -> note -> weighted number of occurrences. Sorted by word so that prefixes can be looked up. */
+    private final NavigableMap<String, Map<IndexedNote, Integer>> postings = new TreeMap<>();
+    /** The patients whose notes are in the index, by {@code Name#getIdentityKey()}. */
+    private final Map<String, Patient> indexedPatients = new HashMap<>();
+    private int noteCount;
+
+    /**
+     * Adds the notes of {@code patient}, who must not be in the index yet.
+     */
+    public void addPatient(Patient patient) {
+        requireNonNull(patient);
+        String key = patient.getName().getIdentityKey();
+        assert !indexedPatients.containsKey(key);
+        indexedPatients.put(key, patient);
+        for (Note note : patient.getNotes()) {
+            addNote(key, note);
+        }
+    }
+
+    /**
+     * Removes the notes of {@code patient} from the index.
+     */
+    public void removePatient(Patient patient) {
+        requireNonNull(patient);
+        String key = patient.getName().getIdentityKey();
+        if (indexedPatients.remove(key) == null) {
+            return;
+        }
+        for (Note note : patient.getNotes()) {
+            removeNote(key, note);
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPatient}, re-indexing only the notes that were added, edited or
+     * deleted in between.
+     */
+    public void updatePatient(Patient target, Patient editedPatient) {
+        requireAllNonNull(target, editedPatient);
+        String key = editedPatient.getName().getIdentityKey();
+        if (!key.equals(target.getName().getIdentityKey())) {
+            removePatient(target);
+            addPatient(editedPatient);
+            return;
+        }
+
+        indexedPatients.put(key, editedPatient);
+        Set<Note> oldNotes = new HashSet<>(target.getNotes());
+        Set<Note> newNotes = new HashSet<>(editedPatient.getNotes());
+        for (Note note : oldNotes) {
+            if (!newNotes.contains(note)) {
+                removeNote(key, note);
+            }
+        }
+        for (Note note : newNotes) {
+            if (!oldNotes.contains(note)) {
+                addNote(key, note);
+            }
+        }
+    }
+
+    /**
+     * Replaces the indexed patients with {@code patients}.
+     * Patients that are unchanged since they were indexed are not re-indexed.
+     */
+    public void setPatients(Collection<Patient> patients) {
+        requireAllNonNull(patients);
+        Map<String, Patient> replacement = new HashMap<>();
+        for (Patient patient : patients) {
+            replacement.put(patient.getName().getIdentityKey(), patient);
+        }
+
+        Iterator<Map.Entry<String, Patient>> iterator = indexedPatients.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Patient> entry = iterator.next();
+            if (!replacement.containsKey(entry.getKey())) {
+                iterator.remove();
+                for (Note note : entry.getValue().getNotes()) {
+                    removeNote(entry.getKey(), note);
+                }
+            }
+        }
+        for (Patient patient : replacement.values()) {
+            Patient indexedPatient = indexedPatients.get(patient.getName().getIdentityKey());
+            if (indexedPatient == null) {
+                addPatient(patient);
+            } else if (indexedPatient != patient) {
+                updatePatient(indexedPatient, patient);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of notes in the index.
+     */
+    public int getNoteCount() {
+        return noteCount;
+    }
+
+    /**
+     * Returns up to {@code limit} notes that contain any of {@code keywords}, best match first.
+     * Keywords are case-insensitive, and also match words that they are a prefix of.
+     */
+    public List<NoteSearchHit> search(List<String> keywords, int limit) {
+        requireAllNonNull(keywords);
+        checkArgument(limit > 0, "Limit must be positive.");
+
+        Map<IndexedNote, Double> scores = new HashMap<>();
+        for (String keyword : keywords) {
+            for (String term : tokenize(keyword)) {
+                scoreTerm(term, scores);
+            }
+        }
+
+        Comparator<NoteSearchHit> ranking = Comparator.comparingDouble(NoteSearchHit::getScore).reversed()
+                .thenComparing(hit -> hit.getPatient().getName().fullName)
+                .thenComparing(NoteSearchHit::getNote);
+        PriorityQueue<NoteSearchHit> best = new PriorityQueue<>(ranking.reversed());
+        for (Map.Entry<IndexedNote, Double> entry : scores.entrySet()) {
+            IndexedNote indexedNote = entry.getKey();
+            best.add(new NoteSearchHit(indexedPatients.get(indexedNote.patientKey), indexedNote.note,
+                    entry.getValue()));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<NoteSearchHit> hits = new ArrayList<>(best);
+        hits.sort(ranking);
+        return hits;
+    }
+
+    private void scoreTerm(String term, Map<IndexedNote, Double> scores) {
+        Map<String, Map<IndexedNote, Integer>> matchingPostings =
+                postings.subMap(term, true, term + Character.MAX_VALUE, true);
+        for (Map.Entry<String, Map<IndexedNote, Integer>> posting : matchingPostings.entrySet()) {
+            Map<IndexedNote, Integer> notes = posting.getValue();
+            double inverseDocumentFrequency = Math.log(1 + (double) noteCount / notes.size());
+            double matchWeight = posting.getKey().length() == term.length() ? 1 : PREFIX_MATCH_WEIGHT;
+            for (Map.Entry<IndexedNote, Integer> note : notes.entrySet()) {
+                scores.merge(note.getKey(), note.getValue() * inverseDocumentFrequency * matchWeight, Double::sum);
+            }
+        }
+    }
+
+    private void addNote(String patientKey, Note note) {
+        IndexedNote indexedNote = new IndexedNote(patientKey, note);
+        countTerms(note).forEach((term, count) ->
+                postings.computeIfAbsent(term, unused -> new HashMap<>()).put(indexedNote, count));
+        noteCount++;
+    }
+
+    private void removeNote(String patientKey, Note note) {
+        IndexedNote indexedNote = new IndexedNote(patientKey, note);
+        for (String term : countTerms(note).keySet()) {
+            Map<IndexedNote, Integer> notes = postings.get(term);
+            notes.remove(indexedNote);
+            if (notes.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        noteCount--;
+    }
+
+    /**
+     * Returns the weighted number of occurrences of each word in {@code note}.
+     */
+    private static Map<String, Integer> countTerms(Note note) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String term : tokenize(note.getTitle())) {
+            counts.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : tokenize(note.getContent())) {
+            counts.merge(term, CONTENT_WEIGHT, Integer::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Splits {@code text} into case-folded words of letters and digits.
+     */
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String term : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * A note in the index. Patients are referred to by identity key, so that editing a patient's details
+     * does not require re-indexing their notes.
+     */
+    private static final class IndexedNote {
+        private final String patientKey;
+        private final Note note;
+
+        IndexedNote(String patientKey, Note note) {
+            this.patientKey = patientKey;
+            this.note = note;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof IndexedNote)) {
+                return false;
+            }
+
+            IndexedNote otherIndexedNote = (IndexedNote) other;
+            return patientKey.equals(otherIndexedNote.patientKey) && note.equals(otherIndexedNote.note);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(patientKey, note);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package seedu.address.model.note;
+
+import java.util.TreeSet;
+
+/**
+ * Loads the notes of a patient that were left out when the rest of the patient was loaded.
+ */
+@FunctionalInterface
+public interface NoteLoader {
+
+    /**
+     * Returns the notes of the patient. Called at most once per patient, though patients with the same
+     * notes, such as a patient and its edited copy, may share a loader.
+     *
+     * @throws IllegalStateException if the notes can no longer be loaded.
+     */
+    TreeSet<Note> loadNotes();
+}
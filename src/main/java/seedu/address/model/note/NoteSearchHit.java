@@ -0,0 +1,75 @@
+package seedu.address.model.note;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.patient.Patient;
+
+/**
+ * A note that matched a note search, together with the patient it belongs to and its relevance score.
+ * Guarantees: immutable.
+ */
+public class NoteSearchHit {
+
+    private final Patient patient;
+    private final Note note;
+    private final double score;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public NoteSearchHit(Patient patient, Note note, double score) {
+        requireAllNonNull(patient, note);
+        this.patient = patient;
+        this.note = note;
+        this.score = score;
+    }
+
+    public Patient getPatient() {
+        return patient;
+    }
+
+    public Note getNote() {
+        return note;
+    }
+
+    /**
+     * Returns how well the note matched the search; higher is better.
+     */
+    public double getScore() {
+        return score;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NoteSearchHit)) {
+            return false;
+        }
+
+        NoteSearchHit otherHit = (NoteSearchHit) other;
+        return patient.equals(otherHit.patient)
+                && note.equals(otherHit.note)
+                && Double.compare(score, otherHit.score) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(patient, note, score);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("patient", patient.getName())
+                .add("note", note)
+                .add("score", score)
+                .toString();
+    }
+}
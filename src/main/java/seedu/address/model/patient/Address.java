@@ -2,6 +2,7 @@ package seedu.address.model.patient;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.matches;
 
 /**
  * Represents a Patient's address in the app.
@@ -34,7 +35,7 @@ public class Address {
      * Returns true if a given string is a valid address.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return matches(test, VALIDATION_REGEX);
     }
 
     @Override
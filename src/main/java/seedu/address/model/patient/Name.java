@@ -2,6 +2,7 @@ package seedu.address.model.patient;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.matches;
 
 /**
  * Represents a Patient's name in the app.
@@ -23,6 +24,9 @@ public class Name {
 
     public final String fullName;
 
+    /** Case-folded form of {@code fullName}, used as the identity key of a patient. */
+    private final String identityKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -32,15 +36,23 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        identityKey = name.toLowerCase();
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return matches(test, VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the case-folded name, computed once at construction.
+     * Two names with the same identity key refer to the same patient.
+     */
+    public String getIdentityKey() {
+        return identityKey;
+    }
 
     @Override
     public String toString() {
@@ -10,18 +10,27 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class NameContainsKeywordsPredicate implements Predicate<Patient> {
     private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
 
+    /**
+     * Creates a predicate that matches patients containing any of {@code keywords}.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = keywords.stream().map(String::toLowerCase).toList();
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Patient patient) {
-        return keywords.stream()
-                .anyMatch(keyword -> patient.getName().fullName.toLowerCase().contains(keyword.toLowerCase())
-                        || patient.getPhone().value.toLowerCase().contains(keyword.toLowerCase())
-                        || patient.getAddress().value.toLowerCase().contains(keyword.toLowerCase())
-                );
+        String name = patient.getName().getIdentityKey();
+        String phone = patient.getPhone().value.toLowerCase();
+        String address = patient.getAddress().value.toLowerCase();
+        return lowerCaseKeywords.stream()
+                .anyMatch(keyword -> name.contains(keyword) || phone.contains(keyword) || address.contains(keyword));
     }
 
     @Override
@@ -5,11 +5,13 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.note.Note;
+import seedu.address.model.note.NoteLoader;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -18,6 +20,9 @@ import seedu.address.model.tag.Tag;
  */
 public class Patient {
 
+    /** Shown by {@link #toString()} in place of notes that are not loaded yet. */
+    public static final String NOTES_NOT_LOADED = "(not loaded)";
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -25,7 +30,9 @@ public class Patient {
     // Data fields
     private final Address address;
     private final Set<Tag> tags = new HashSet<>();
-    private final TreeSet<Note> notes;
+    private TreeSet<Note> notes;
+    /** Loads {@code notes} the first time they are needed, or null once they are loaded. */
+    private volatile NoteLoader noteLoader;
 
     /**
      * Every field must be present and not null.
@@ -51,6 +58,19 @@ public class Patient {
         this.notes = notes;
     }
 
+    /**
+     * Creates a patient whose notes are loaded by {@code noteLoader} the first time they are needed.
+     * Every field must be present and not null.
+     */
+    public Patient(Name name, Phone phone, Address address, Set<Tag> tags, NoteLoader noteLoader) {
+        requireAllNonNull(name, phone, address, tags, noteLoader);
+        this.name = name;
+        this.phone = phone;
+        this.address = address;
+        this.tags.addAll(tags);
+        this.noteLoader = noteLoader;
+    }
+
     public Name getName() {
         return name;
     }
@@ -77,9 +97,26 @@ public class Patient {
      *     if modification is attempted.
      */
     public TreeSet<Note> getNotes() {
+        if (noteLoader != null) {
+            loadNotes();
+        }
         return this.notes;
     }
 
+    /**
+     * Returns the loader of the notes of this patient if they have not been loaded yet.
+     */
+    public Optional<NoteLoader> getPendingNoteLoader() {
+        return Optional.ofNullable(noteLoader);
+    }
+
+    private synchronized void loadNotes() {
+        if (noteLoader != null) {
+            notes = noteLoader.loadNotes();
+            noteLoader = null;
+        }
+    }
+
     /**
      * Returns true if both patients have the same name.
      * This defines a weaker notion of equality between two patients.
@@ -90,13 +127,14 @@ public class Patient {
         }
 
         return otherPatient != null
-                && otherPatient.getName().toString().toLowerCase()
-                .equals(getName().toString().toLowerCase());
+                && otherPatient.getName().getIdentityKey().equals(getName().getIdentityKey());
     }
 
     /**
      * Returns true if both patients have the same identity and data fields.
      * This defines a stronger notion of equality between two patients.
+     * Notes that are not loaded yet are only loaded to compare them if every other field is equal and they are
+     * not pending from the same loader.
      */
     @Override
     public boolean equals(Object other) {
@@ -114,13 +152,20 @@ public class Patient {
                 && phone.equals(otherPatient.phone)
                 && address.equals(otherPatient.address)
                 && tags.equals(otherPatient.tags)
-                && notes.equals(otherPatient.notes);
+                && hasSameNotes(otherPatient);
+    }
+
+    private boolean hasSameNotes(Patient otherPatient) {
+        NoteLoader pendingNoteLoader = noteLoader;
+        return pendingNoteLoader != null && pendingNoteLoader == otherPatient.noteLoader
+                || getNotes().equals(otherPatient.getNotes());
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, address, tags, notes);
+        // notes are left out so that hashing does not load them
+        return Objects.hash(name, phone, address, tags);
     }
 
     @Override
@@ -130,7 +175,7 @@ public class Patient {
                 .add("phone", phone)
                 .add("address", address)
                 .add("tags", tags)
-                .add("notes", notes)
+                .add("notes", noteLoader == null ? notes : NOTES_NOT_LOADED)
                 .toString();
     }
 
@@ -0,0 +1,191 @@
+package seedu.address.model.patient;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A trigram index over the case-folded name, phone number and address of patients, used to find the patients
+ * whose fields contain a keyword without scanning every patient.
+ *
+ * Every run of three characters in a field is mapped to the patients with that run. A keyword of at least three
+ * characters can then only occur in patients that have all of its trigrams, which is a small set to check.
+ * Shorter keywords cannot be narrowed down this way and fall back to a scan.
+ */
+public class PatientSubstringIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    /** Trigram -> patients with that trigram in any indexed field. Patients are compared by identity. */
+    private final Map<String, Set<Patient>> postings = new HashMap<>();
+    /** Identity key -> indexed patient, to tell which patients changed when the whole list is replaced. */
+    private final Map<String, Patient> indexedPatients = new HashMap<>();
+    /** Incremented on every change, so that cached search results can tell when they are stale. */
+    private long version;
+
+    /**
+     * Adds {@code patient} to the index.
+     */
+    public void add(Patient patient) {
+        requireNonNull(patient);
+        for (String gram : gramsOf(patient)) {
+            postings.computeIfAbsent(gram, unused -> newIdentitySet()).add(patient);
+        }
+        indexedPatients.put(patient.getName().getIdentityKey(), patient);
+        version++;
+    }
+
+    /**
+     * Removes {@code patient} from the index.
+     */
+    public void remove(Patient patient) {
+        requireNonNull(patient);
+        for (String gram : gramsOf(patient)) {
+            Set<Patient> patients = postings.get(gram);
+            if (patients != null) {
+                patients.remove(patient);
+                if (patients.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+        String key = patient.getName().getIdentityKey();
+        if (indexedPatients.get(key) == patient) {
+            indexedPatients.remove(key);
+        }
+        version++;
+    }
+
+    /**
+     * Replaces the indexed patients with {@code patients}.
+     * Patients that are unchanged since they were indexed are not re-indexed.
+     */
+    public void setPatients(Collection<Patient> patients) {
+        requireAllNonNull(patients);
+        Map<String, Patient> replacement = new HashMap<>();
+        for (Patient patient : patients) {
+            replacement.put(patient.getName().getIdentityKey(), patient);
+        }
+
+        List<Patient> removedPatients = new ArrayList<>();
+        for (Map.Entry<String, Patient> entry : indexedPatients.entrySet()) {
+            if (replacement.get(entry.getKey()) != entry.getValue()) {
+                removedPatients.add(entry.getValue());
+            }
+        }
+        removedPatients.forEach(this::remove);
+        for (Patient patient : replacement.values()) {
+            if (indexedPatients.get(patient.getName().getIdentityKey()) != patient) {
+                add(patient);
+            }
+        }
+    }
+
+    /**
+     * Returns a predicate that accepts the patients matching {@code predicate}, narrowing them down through this
+     * index. The matches are looked up once, then reused until the index changes.
+     */
+    public Predicate<Patient> narrow(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return new NarrowedPredicate(predicate);
+    }
+
+    /**
+     * Returns the patients that might contain {@code keyword} in one of their fields,
+     * or null if {@code keyword} is too short to be looked up.
+     */
+    Set<Patient> findCandidates(String keyword) {
+        String foldedKeyword = keyword.toLowerCase();
+        if (foldedKeyword.length() < GRAM_LENGTH) {
+            return null;
+        }
+
+        List<Set<Patient>> candidateSets = new ArrayList<>();
+        for (String gram : gramsOf(foldedKeyword)) {
+            Set<Patient> patients = postings.get(gram);
+            if (patients == null) {
+                return Collections.emptySet();
+            }
+            candidateSets.add(patients);
+        }
+        candidateSets.sort(Comparator.comparingInt(Set::size));
+
+        Set<Patient> candidates = newIdentitySet();
+        candidates.addAll(candidateSets.get(0));
+        for (Set<Patient> patients : candidateSets.subList(1, candidateSets.size())) {
+            candidates.retainAll(patients);
+        }
+        return candidates;
+    }
+
+    private static Set<String> gramsOf(Patient patient) {
+        Set<String> grams = new HashSet<>();
+        grams.addAll(gramsOf(patient.getName().getIdentityKey()));
+        grams.addAll(gramsOf(patient.getPhone().value.toLowerCase()));
+        grams.addAll(gramsOf(patient.getAddress().value.toLowerCase()));
+        return grams;
+    }
+
+    private static Set<String> gramsOf(String foldedText) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= foldedText.length(); i++) {
+            grams.add(foldedText.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static Set<Patient> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * A {@code NameContainsKeywordsPredicate} answered from the index.
+     * A patient matches if it is one of the verified candidates of any keyword; if any keyword is too short to
+     * be looked up, every patient is checked against the predicate directly.
+     */
+    private class NarrowedPredicate implements Predicate<Patient> {
+        private final NameContainsKeywordsPredicate predicate;
+        private long matchesVersion = -1;
+        private Set<Patient> matches;
+
+        NarrowedPredicate(NameContainsKeywordsPredicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(Patient patient) {
+            if (matchesVersion != version) {
+                matches = findMatches();
+                matchesVersion = version;
+            }
+            return matches == null ? predicate.test(patient) : matches.contains(patient);
+        }
+
+        private Set<Patient> findMatches() {
+            Set<Patient> verifiedMatches = newIdentitySet();
+            for (String keyword : predicate.getKeywords()) {
+                Set<Patient> candidates = findCandidates(keyword);
+                if (candidates == null) {
+                    return null;
+                }
+                for (Patient candidate : candidates) {
+                    if (predicate.test(candidate)) {
+                        verifiedMatches.add(candidate);
+                    }
+                }
+            }
+            return verifiedMatches;
+        }
+    }
+}
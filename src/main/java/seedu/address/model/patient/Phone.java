@@ -2,6 +2,7 @@ package seedu.address.model.patient;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isDigitsWithOptionalPlus;
 
 /**
  * Represents a Patient's phone number in the app.
@@ -18,6 +19,9 @@ public class Phone {
             + "optionally starting with a '+', and be between 3-15 digits long.";
     public static final String VALIDATION_REGEX = "^\\+?\\d{3,15}$";
 
+    private static final int MIN_DIGITS = 3;
+    private static final int MAX_DIGITS = 15;
+
     public final String value;
 
     /**
@@ -33,9 +37,10 @@ public class Phone {
 
     /**
      * Returns true if a given string is a valid phone number.
+     * Checked by hand rather than with {@link #VALIDATION_REGEX}, which it is equivalent to.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isDigitsWithOptionalPlus(test, MIN_DIGITS, MAX_DIGITS);
     }
 
     @Override
@@ -3,11 +3,19 @@ package seedu.address.model.patient;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.note.NoteIndex;
+import seedu.address.model.note.NoteSearchHit;
 import seedu.address.model.patient.exceptions.DuplicatePatientException;
 import seedu.address.model.patient.exceptions.PatientNotFoundException;
 
@@ -20,6 +28,15 @@ import seedu.address.model.patient.exceptions.PatientNotFoundException;
  * However, the removal of a patient uses Patient#equals(Object) so
  * as to ensure that the patient with exactly the same fields will be removed.
  *
+ * Patients are additionally indexed by {@code Name#getIdentityKey()} so that identity checks do not need to
+ * scan the whole list. The index is kept in step with the list by every mutating operation.
+ * The list is also mirrored in a {@code PersistentList}, so that {@link #asPersistentList()} can hand out an
+ * immutable snapshot of the current contents without copying them, and once notes are first searched, their
+ * notes are kept in a {@code NoteIndex} so that notes can be searched across all patients, and their name, phone
+ * number and address are kept in a {@code PatientSubstringIndex} so that {@code find} does not need to scan every
+ * patient.
+ * The substring index is updated before the list itself, so that it is current when list listeners run.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Patient#isSamePatient(Patient)
@@ -29,13 +46,18 @@ public class UniquePatientList implements Iterable<Patient> {
     private final ObservableList<Patient> internalList = FXCollections.observableArrayList();
     private final ObservableList<Patient> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Patient> identityIndex = new HashMap<>();
+    private PersistentList<Patient> persistentPatients = PersistentList.empty();
+    /** Built on the first note search, so that notes that are loaded lazily are not all loaded at startup. */
+    private NoteIndex noteIndex;
+    private final PatientSubstringIndex substringIndex = new PatientSubstringIndex();
 
     /**
      * Returns true if the list contains an equivalent patient as the given argument.
      */
     public boolean contains(Patient toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePatient);
+        return identityIndex.containsKey(toCheck.getName().getIdentityKey());
     }
 
     /**
@@ -47,7 +69,42 @@ public class UniquePatientList implements Iterable<Patient> {
         if (contains(toAdd)) {
             throw new DuplicatePatientException();
         }
+        substringIndex.add(toAdd);
         internalList.add(toAdd);
+        identityIndex.put(toAdd.getName().getIdentityKey(), toAdd);
+        persistentPatients = persistentPatients.add(toAdd);
+        if (noteIndex != null) {
+            noteIndex.addPatient(toAdd);
+        }
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list, in order, as a single change to the list.
+     * {@code toAdd} must not contain duplicate patients nor patients already in the list; if it does, every such
+     * name is reported in the thrown {@code DuplicatePatientException} and this list is left unchanged.
+     */
+    public void addAll(List<Patient> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<String, Patient> addedIndex = buildIdentityIndex(toAdd);
+        List<Name> existingNames = new ArrayList<>();
+        for (Patient patient : toAdd) {
+            if (contains(patient)) {
+                existingNames.add(patient.getName());
+            }
+        }
+        if (!existingNames.isEmpty()) {
+            throw new DuplicatePatientException(existingNames);
+        }
+
+        for (Patient patient : toAdd) {
+            substringIndex.add(patient);
+            persistentPatients = persistentPatients.add(patient);
+            if (noteIndex != null) {
+                noteIndex.addPatient(patient);
+            }
+        }
+        internalList.addAll(toAdd);
+        identityIndex.putAll(addedIndex);
     }
 
     /**
@@ -67,7 +124,15 @@ public class UniquePatientList implements Iterable<Patient> {
             throw new DuplicatePatientException();
         }
 
-        internalList.set(index, editedPatient);
+        substringIndex.remove(internalList.get(index));
+        substringIndex.add(editedPatient);
+        Patient replacedPatient = internalList.set(index, editedPatient);
+        identityIndex.remove(target.getName().getIdentityKey());
+        identityIndex.put(editedPatient.getName().getIdentityKey(), editedPatient);
+        persistentPatients = persistentPatients.set(index, editedPatient);
+        if (noteIndex != null) {
+            noteIndex.updatePatient(replacedPatient, editedPatient);
+        }
     }
 
     /**
@@ -76,27 +141,119 @@ public class UniquePatientList implements Iterable<Patient> {
      */
     public void remove(Patient toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PatientNotFoundException();
         }
+        substringIndex.remove(internalList.get(index));
+        Patient removedPatient = internalList.remove(index);
+        identityIndex.remove(toRemove.getName().getIdentityKey());
+        persistentPatients = persistentPatients.remove(index);
+        if (noteIndex != null) {
+            noteIndex.removePatient(removedPatient);
+        }
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPatients(UniquePatientList replacement) {
         requireNonNull(replacement);
+        substringIndex.setPatients(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        persistentPatients = replacement.persistentPatients;
+        if (noteIndex != null) {
+            noteIndex.setPatients(replacement.internalList);
+        }
     }
 
     /**
      * Replaces the contents of this list with {@code patients}.
-     * {@code patients} must not contain duplicate patients.
+     * {@code patients} must not contain duplicate patients; if it does, every duplicated name is reported
+     * in the thrown {@code DuplicatePatientException} and this list is left unchanged.
      */
     public void setPatients(List<Patient> patients) {
         requireAllNonNull(patients);
-        if (!patientsAreUnique(patients)) {
-            throw new DuplicatePatientException();
-        }
+        Map<String, Patient> replacementIndex = buildIdentityIndex(patients);
 
+        substringIndex.setPatients(patients);
         internalList.setAll(patients);
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
+        persistentPatients = PersistentList.of(patients);
+        if (noteIndex != null) {
+            noteIndex.setPatients(patients);
+        }
+    }
+
+    /**
+     * Replaces the contents of this list with {@code patients}, typically a snapshot previously returned by
+     * {@link #asPersistentList()}. The snapshot is adopted as is, so later snapshots keep sharing its structure.
+     * {@code patients} must not contain duplicate patients; if it does, this list is left unchanged.
+     */
+    public void setPatients(PersistentList<Patient> patients) {
+        requireNonNull(patients);
+        Map<String, Patient> replacementIndex = buildIdentityIndex(patients);
+
+        List<Patient> replacementList = patients.toList();
+        substringIndex.setPatients(replacementList);
+        internalList.setAll(replacementList);
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
+        persistentPatients = patients;
+        if (noteIndex != null) {
+            noteIndex.setPatients(internalList);
+        }
+    }
+
+    /**
+     * Returns an immutable snapshot of the current contents of this list.
+     * This takes constant time; the snapshot shares its structure with this list and with earlier snapshots.
+     */
+    public PersistentList<Patient> asPersistentList() {
+        return persistentPatients;
+    }
+
+    /**
+     * Returns up to {@code limit} notes of the patients in this list that contain any of {@code keywords},
+     * best match first.
+     */
+    public List<NoteSearchHit> searchNotes(List<String> keywords, int limit) {
+        if (noteIndex == null) {
+            noteIndex = new NoteIndex();
+            noteIndex.setPatients(internalList);
+        }
+        return noteIndex.search(keywords, limit);
+    }
+
+    /**
+     * Returns a predicate that accepts the same patients of this list as {@code predicate}, but looks them up
+     * through the substring index instead of testing every patient.
+     */
+    public Predicate<Patient> narrow(NameContainsKeywordsPredicate predicate) {
+        return substringIndex.narrow(predicate);
+    }
+
+    /**
+     * Returns the identity index of {@code patients}, checking every patient in a single pass.
+     *
+     * @throws DuplicatePatientException listing every duplicated name if {@code patients} contains duplicates.
+     */
+    private static Map<String, Patient> buildIdentityIndex(Iterable<Patient> patients) {
+        Map<String, Patient> index = new HashMap<>();
+        Map<String, Name> duplicateNames = new LinkedHashMap<>();
+        for (Patient patient : patients) {
+            String key = patient.getName().getIdentityKey();
+            if (index.putIfAbsent(key, patient) != null) {
+                duplicateNames.putIfAbsent(key, patient.getName());
+            }
+        }
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicatePatientException(new ArrayList<>(duplicateNames.values()));
+        }
+        return index;
     }
 
     /**
@@ -135,18 +292,4 @@ public class UniquePatientList implements Iterable<Patient> {
     public String toString() {
         return internalList.toString();
     }
-
-    /**
-     * Returns true if {@code patients} contains only unique patients.
-     */
-    private boolean patientsAreUnique(List<Patient> patients) {
-        for (int i = 0; i < patients.size() - 1; i++) {
-            for (int j = i + 1; j < patients.size(); j++) {
-                if (patients.get(i).isSamePatient(patients.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
@@ -1,11 +1,46 @@
 package seedu.address.model.patient.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.patient.Name;
+
 /**
  * Signals that the operation will result in duplicate Patients
  * (Patients are considered duplicates if they have the same identity).
  */
 public class DuplicatePatientException extends RuntimeException {
+
+    private final List<Name> duplicateNames;
+
+    /**
+     * Constructs a {@code DuplicatePatientException} that does not name the duplicated patients.
+     */
     public DuplicatePatientException() {
         super("Operation would result in duplicate patients");
+        this.duplicateNames = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicatePatientException} that reports every name in {@code duplicateNames}.
+     */
+    public DuplicatePatientException(List<Name> duplicateNames) {
+        super("Operation would result in duplicate patients: " + joinNames(duplicateNames));
+        this.duplicateNames = Collections.unmodifiableList(duplicateNames);
+    }
+
+    /**
+     * Returns the names that were found more than once, or an empty list if they were not recorded.
+     */
+    public List<Name> getDuplicateNames() {
+        return duplicateNames;
+    }
+
+    /**
+     * Returns the names in {@code names} as a single comma-separated string.
+     */
+    public static String joinNames(List<Name> names) {
+        return names.stream().map(name -> name.fullName).collect(Collectors.joining(", "));
     }
 }
@@ -2,6 +2,7 @@ package seedu.address.model.tag;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAsciiAlphanumeric;
 
 /**
  * Represents a Tag in the app.
@@ -27,9 +28,10 @@ public class Tag {
 
     /**
      * Returns true if a given string is a valid tag name.
+     * Checked by hand rather than with {@link #VALIDATION_REGEX}, which it is equivalent to.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isAsciiAlphanumeric(test);
     }
 
     @Override
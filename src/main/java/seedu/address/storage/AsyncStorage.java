@@ -0,0 +1,239 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.patient.Patient;
+
+/**
+ * A {@code Storage} that writes address book data on a single background thread.
+ *
+ * {@link #saveAddressBook(ReadOnlyAddressBook, Path)} only takes a snapshot of the patient list and returns.
+ * Saves that arrive while the writer is busy are coalesced, so that only the latest snapshot for each file
+ * is written. A write that fails is kept and retried by the next save or {@link #flush()}, and the failure is
+ * reported to the write failure listener. User prefs are still written synchronously.
+ */
+public class AsyncStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object lock = new Object();
+    /** Latest snapshot waiting to be written for each file, in the order the files were first requested. */
+    private final Map<Path, ReadOnlyAddressBook> pendingSnapshots = new LinkedHashMap<>();
+    private boolean isWriteScheduled;
+    /** Why the snapshot pending for a file could not be written, for snapshots that failed their last write. */
+    private final Map<Path, IOException> writeFailures = new HashMap<>();
+    private Consumer<IOException> writeFailureListener = unused -> {};
+
+    /**
+     * Creates an {@code AsyncStorage} that writes through {@code storage}.
+     */
+    public AsyncStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(storage.getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        try {
+            awaitWriter();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException(ie);
+        }
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Queues a snapshot of {@code addressBook} to be written to {@code filePath} and returns immediately.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        ReadOnlyAddressBook snapshot = addressBook instanceof AddressBook
+                ? ((AddressBook) addressBook).snapshot()
+                : new AddressBookSnapshot(addressBook);
+        synchronized (lock) {
+            pendingSnapshots.put(filePath, snapshot);
+            // An earlier failure does not say anything about the new snapshot.
+            writeFailures.remove(filePath);
+            scheduleWrite();
+        }
+    }
+
+    /**
+     * Blocks until every snapshot queued so far has been written.
+     *
+     * @throws IOException if a queued snapshot still could not be written.
+     * @throws InterruptedIOException if the thread was interrupted while waiting. The thread's interrupt status is
+     *     restored.
+     */
+    @Override
+    public void flush() throws IOException {
+        synchronized (lock) {
+            if (!pendingSnapshots.isEmpty()) {
+                scheduleWrite();
+            }
+        }
+        try {
+            awaitWriter();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException("Interrupted while writing data files");
+            interrupted.initCause(ie);
+            throw interrupted;
+        }
+        synchronized (lock) {
+            // A snapshot queued by another thread after the writer finished is still pending but has not failed.
+            for (Path filePath : pendingSnapshots.keySet()) {
+                IOException failure = writeFailures.get(filePath);
+                if (failure != null) {
+                    throw failure;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void setWriteFailureListener(Consumer<IOException> listener) {
+        requireNonNull(listener);
+        synchronized (lock) {
+            writeFailureListener = listener;
+        }
+    }
+
+    private void scheduleWrite() {
+        assert Thread.holdsLock(lock);
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.execute(this::writePendingSnapshots);
+        }
+    }
+
+    /**
+     * Writes the pending snapshots. Runs on the writer thread only.
+     */
+    private void writePendingSnapshots() {
+        Map<Path, ReadOnlyAddressBook> toWrite;
+        synchronized (lock) {
+            toWrite = new LinkedHashMap<>(pendingSnapshots);
+            pendingSnapshots.clear();
+            isWriteScheduled = false;
+        }
+
+        for (Map.Entry<Path, ReadOnlyAddressBook> entry : toWrite.entrySet()) {
+            try {
+                storage.saveAddressBook(entry.getValue(), entry.getKey());
+                synchronized (lock) {
+                    writeFailures.remove(entry.getKey());
+                }
+            } catch (IOException | RuntimeException e) {
+                IOException failure = e instanceof IOException ? (IOException) e : new IOException(e);
+                logger.warning("Failed to write data file " + entry.getKey() + ": " + StringUtil.getDetails(e));
+                Consumer<IOException> listener;
+                synchronized (lock) {
+                    // Keep the failed snapshot for a retry unless a newer one has been queued meanwhile.
+                    if (pendingSnapshots.putIfAbsent(entry.getKey(), entry.getValue()) == null) {
+                        writeFailures.put(entry.getKey(), failure);
+                    }
+                    listener = writeFailureListener;
+                }
+                listener.accept(failure);
+            }
+        }
+    }
+
+    /**
+     * Waits until the writer has finished every task submitted before this call.
+     */
+    private void awaitWriter() throws InterruptedException {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (ExecutionException ee) {
+            throw new AssertionError("An empty task cannot fail.", ee);
+        }
+    }
+
+    /**
+     * An immutable copy of the patient list of an address book that cannot snapshot itself, taken on the thread that
+     * requested the save.
+     * Patients themselves are immutable, so copying the list is enough to isolate the snapshot from later edits.
+     */
+    private static class AddressBookSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Patient> patients;
+
+        AddressBookSnapshot(ReadOnlyAddressBook source) {
+            patients = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(source.getPatientList()));
+        }
+
+        @Override
+        public ObservableList<Patient> getPatientList() {
+            return patients;
+        }
+    }
+}
@@ -0,0 +1,473 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.note.Note;
+import seedu.address.model.note.NoteLoader;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact binary format on the hard disk.
+ *
+ * The file starts with {@link #MAGIC} and a format version, followed by a dictionary of every tag name in use
+ * and then the patients. Strings are stored as a length followed by their UTF-8 bytes, tags as their position
+ * in the dictionary, and note timestamps as seconds and nanoseconds since the epoch. Counts, lengths and
+ * dictionary positions are stored as variable-length integers, so small values take a single byte.
+ * The notes of each patient are preceded by their length in bytes, so that they can be skipped.
+ *
+ * With lazy note loading, the notes are skipped when the file is read and each patient's notes are only loaded,
+ * and validated, when they are first needed, see {@link LazyNoteFile}. Notes that were never loaded are copied
+ * into the new file as they are when saving.
+ *
+ * The format holds exactly what the json format holds, and each storage reads files in the other format,
+ * so switching between the two never loses data: the file is converted on the next save.
+ * Saves are atomic, so a crash while saving leaves the previous data in place.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** Identifies a binary address book file. Cannot be the start of a json file. */
+    static final byte[] MAGIC = {(byte) 0x89, 'N', 'S', 'B'};
+    static final int FORMAT_VERSION = 2;
+    /** The first version, whose notes are not preceded by their length, is still read. */
+    static final int OLDEST_READABLE_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    /** Guards against allocating huge arrays when reading a corrupted length. */
+    private static final int MAX_STRING_BYTES = 64 * 1024 * 1024;
+
+    private final Path filePath;
+    /** The file notes are loaded from lazily, or null if notes are loaded with the rest of the patients. */
+    private final LazyNoteFile noteFile;
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the data file at {@code filePath}.
+     */
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the data file at {@code filePath}, which loads the notes of
+     * patients in that file only when they are first needed if {@code isLazyNoteLoading}.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isLazyNoteLoading) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.noteFile = isLazyNoteLoading ? new LazyNoteFile(filePath) : null;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * A json file is read as json, together with its journal, and a missing file is looked for in the other formats,
+     * so that data saved in those formats can be converted.
+     * Notes are only loaded lazily from the file at {@link #getAddressBookFilePath()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            if (!Files.exists(filePath) || !isBinaryFile(filePath)) {
+                logger.info("Data file " + filePath + " is missing or not binary, reading it as json.");
+                return new JournalAddressBookStorage(filePath).readAddressBook(filePath);
+            }
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+
+        logger.info("Binary file " + filePath + " found.");
+        LazyNoteFile lazyNoteFile = noteFile != null && filePath.equals(noteFile.getPath()) ? noteFile : null;
+        try (PositionInputStream position = new PositionInputStream(Files.newInputStream(filePath));
+                DataInputStream in = new DataInputStream(position)) {
+            return Optional.of(decodeAddressBook(in, position, lazyNoteFile));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (noteFile == null) {
+            FileUtil.writeAtomically(filePath, out -> encodeAddressBook(addressBook, out, null, null));
+            return;
+        }
+        if (!filePath.equals(noteFile.getPath())) {
+            noteFile.copyTo(filePath, (out, source, copiedBlockOffsets) ->
+                    encodeAddressBook(addressBook, out, source, copiedBlockOffsets));
+            return;
+        }
+
+        Set<LazyNoteFile.NoteBlock> keptBlocks = new HashSet<>();
+        for (Patient patient : addressBook.getPatientList()) {
+            patient.getPendingNoteLoader()
+                    .filter(loader -> loader instanceof LazyNoteFile.NoteBlock)
+                    .map(loader -> (LazyNoteFile.NoteBlock) loader)
+                    .filter(block -> block.getFile() == noteFile)
+                    .ifPresent(keptBlocks::add);
+        }
+        noteFile.replace(keptBlocks, (out, source, copiedBlockOffsets) ->
+                encodeAddressBook(addressBook, out, source, copiedBlockOffsets));
+    }
+
+    /**
+     * Returns true if {@code file} starts with {@link #MAGIC}.
+     */
+    static boolean isBinaryFile(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return Arrays.equals(in.readNBytes(MAGIC.length), MAGIC);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code output}, collecting the tag dictionary first.
+     * Notes that are still in the {@link LazyNoteFile} of this storage are copied from {@code source}, which is
+     * open on that file, and the offsets they are copied to are put in {@code copiedBlockOffsets}. Without a
+     * {@code source}, every patient's notes are loaded and written.
+     */
+    private void encodeAddressBook(ReadOnlyAddressBook addressBook, OutputStream output, FileChannel source,
+            Map<LazyNoteFile.NoteBlock, Long> copiedBlockOffsets) throws IOException {
+        PositionOutputStream position = new PositionOutputStream(output);
+        DataOutputStream out = new DataOutputStream(position);
+        List<Patient> patients = addressBook.getPatientList();
+        Map<String, Integer> tagDictionary = new LinkedHashMap<>();
+        for (Patient patient : patients) {
+            for (Tag tag : patient.getTags()) {
+                tagDictionary.putIfAbsent(tag.tagName, tagDictionary.size());
+            }
+        }
+
+        out.write(MAGIC);
+        writeVarInt(out, FORMAT_VERSION);
+        writeVarInt(out, tagDictionary.size());
+        for (String tagName : tagDictionary.keySet()) {
+            writeString(out, tagName);
+        }
+
+        writeVarInt(out, patients.size());
+        for (Patient patient : patients) {
+            writeString(out, patient.getName().fullName);
+            writeString(out, patient.getPhone().value);
+            writeString(out, patient.getAddress().value);
+            writeVarInt(out, patient.getTags().size());
+            for (Tag tag : patient.getTags()) {
+                writeVarInt(out, tagDictionary.get(tag.tagName));
+            }
+
+            Optional<NoteLoader> noteLoader = patient.getPendingNoteLoader();
+            byte[] noteBytes = null;
+            if (source != null && noteLoader.isPresent() && noteLoader.get() instanceof LazyNoteFile.NoteBlock
+                    && ((LazyNoteFile.NoteBlock) noteLoader.get()).getFile() == noteFile) {
+                LazyNoteFile.NoteBlock block = (LazyNoteFile.NoteBlock) noteLoader.get();
+                noteBytes = block.readBytesIfUnloaded(source);
+                if (noteBytes != null) {
+                    writeVarInt(out, noteBytes.length);
+                    copiedBlockOffsets.put(block, position.getPosition());
+                    out.write(noteBytes);
+                }
+            }
+            if (noteBytes == null) {
+                noteBytes = encodeNotes(patient.getNotes());
+                writeVarInt(out, noteBytes.length);
+                out.write(noteBytes);
+            }
+        }
+        out.flush();
+    }
+
+    private static byte[] encodeNotes(Set<Note> notes) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeVarInt(out, notes.size());
+        for (Note note : notes) {
+            writeString(out, note.getTitle());
+            writeString(out, note.getContent());
+            writeDateTime(out, note.getDateTimeCreated());
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads an address book from {@code in}, applying the same constraints as the json format.
+     * If {@code lazyNoteFile} is not null, the notes are left in it, at the offsets tracked by {@code position}.
+     */
+    private static AddressBook decodeAddressBook(DataInputStream in, PositionInputStream position,
+            LazyNoteFile lazyNoteFile) throws IOException, IllegalValueException, DataLoadingException {
+        byte[] magic = new byte[MAGIC.length];
+        in.readFully(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("Not a binary address book file");
+        }
+        int version = readVarInt(in);
+        if (version < OLDEST_READABLE_VERSION || version > FORMAT_VERSION) {
+            throw new IOException("Unsupported binary address book version " + version);
+        }
+
+        int tagCount = readVarInt(in);
+        List<JsonAdaptedTag> tagDictionary = new ArrayList<>(Math.min(tagCount, 1024));
+        for (int i = 0; i < tagCount; i++) {
+            tagDictionary.add(new JsonAdaptedTag(readString(in)));
+        }
+
+        int patientCount = readVarInt(in);
+        PatientConverter converter = new PatientConverter();
+        for (int i = 0; i < patientCount; i++) {
+            String name = readString(in);
+            String phone = readString(in);
+            String address = readString(in);
+
+            int patientTagCount = readVarInt(in);
+            List<JsonAdaptedTag> tags = new ArrayList<>(Math.min(patientTagCount, tagCount));
+            for (int j = 0; j < patientTagCount; j++) {
+                int tagIndex = readVarInt(in);
+                if (tagIndex >= tagCount) {
+                    throw new IOException("Tag " + tagIndex + " is not in the tag dictionary");
+                }
+                tags.add(tagDictionary.get(tagIndex));
+            }
+
+            if (version == OLDEST_READABLE_VERSION) {
+                converter.add(new JsonAdaptedPatient(name, phone, address, tags, decodeNotes(in)));
+                continue;
+            }
+
+            int notesLength = readVarInt(in);
+            if (lazyNoteFile == null) {
+                long notesEnd = position.getPosition() + notesLength;
+                converter.add(new JsonAdaptedPatient(name, phone, address, tags, decodeNotes(in)));
+                if (position.getPosition() != notesEnd) {
+                    throw new IOException("Notes of " + name + " do not match their length");
+                }
+                continue;
+            }
+
+            LazyNoteFile.NoteBlock block = lazyNoteFile.addBlock(position.getPosition(), notesLength);
+            in.skipNBytes(notesLength);
+            JsonAdaptedPatient adaptedPatient = new JsonAdaptedPatient(name, phone, address, tags, null);
+            converter.add(() -> adaptedPatient.toModelType(block));
+        }
+        if (in.read() != -1) {
+            throw new IOException("Unexpected data after the last patient");
+        }
+        return JsonSerializableAddressBook.toAddressBook(converter.finish());
+    }
+
+    /**
+     * Reads the notes of a patient, as written by {@link #encodeNotes(Set)}.
+     */
+    static List<JsonAdaptedNote> decodeNotes(DataInputStream in) throws IOException {
+        int noteCount = readVarInt(in);
+        List<JsonAdaptedNote> notes = new ArrayList<>(Math.min(noteCount, 1024));
+        for (int j = 0; j < noteCount; j++) {
+            notes.add(new JsonAdaptedNote(readString(in), readString(in), readDateTime(in)));
+        }
+        return notes;
+    }
+
+    /**
+     * Writes {@code dateTime} as a presence flag followed by its seconds and nanoseconds since the epoch.
+     */
+    private static void writeDateTime(DataOutputStream out, LocalDateTime dateTime) throws IOException {
+        out.writeBoolean(dateTime != null);
+        if (dateTime != null) {
+            out.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+            writeVarInt(out, dateTime.getNano());
+        }
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        long epochSecond = in.readLong();
+        int nano = readVarInt(in);
+        try {
+            return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+        } catch (DateTimeException dte) {
+            throw new IOException("Invalid note timestamp", dte);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = readVarInt(in);
+        if (length > MAX_STRING_BYTES) {
+            throw new IOException("String of " + length + " bytes is too long");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a non-negative {@code value} seven bits at a time, lowest bits first, setting the high bit of every
+     * byte but the last.
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        assert value >= 0;
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    /**
+     * An output stream that keeps track of how many bytes have been written to it from the start.
+     */
+    private static class PositionOutputStream extends FilterOutputStream {
+
+        private long position;
+
+        PositionOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        long getPosition() {
+            return position;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            position++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            position += len;
+        }
+    }
+
+    /**
+     * A buffered input stream that keeps track of how many bytes have been read or skipped from the start.
+     */
+    private static class PositionInputStream extends FilterInputStream {
+
+        private long position;
+
+        PositionInputStream(InputStream in) {
+            super(new BufferedInputStream(in));
+        }
+
+        long getPosition() {
+            return position;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                position++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int count = super.read(b, off, len);
+            if (count > 0) {
+                position += count;
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            position += skipped;
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
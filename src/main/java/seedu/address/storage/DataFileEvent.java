@@ -0,0 +1,59 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for reading or writing a whole data file.
+ * The event costs next to nothing unless a flight recording is running.
+ */
+@Name("seedu.address.DataFile")
+@Label("Data File I/O")
+@Category({"NeuroSync", "Storage"})
+@Description("A data file read or written in full")
+class DataFileEvent extends Event {
+
+    static final String READ = "read";
+    static final String WRITE = "write";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Path")
+    private String path;
+
+    @Label("Size")
+    @DataAmount
+    private long bytes;
+
+    /**
+     * Ends the event and commits it as an {@code operation} on {@code file}, if a flight recording is interested
+     * in it.
+     */
+    void commit(String operation, Path file) {
+        requireNonNull(operation);
+        requireNonNull(file);
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.operation = operation;
+        this.path = file.toString();
+        try {
+            this.bytes = Files.size(file);
+        } catch (IOException ioe) {
+            this.bytes = -1;
+        }
+        commit();
+    }
+}
@@ -0,0 +1,427 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.note.Note;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.exceptions.DuplicatePatientException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal on the hard disk.
+ *
+ * Each save compares the address book against the last persisted state and appends one journal line per
+ * changed patient or note, so the cost of a save depends on the size of the change rather than the size of
+ * the data. The journal is folded back into the json snapshot once it holds more than
+ * {@code compactionThreshold} entries, or whenever a change cannot be described by journal entries.
+ *
+ * The first line of the journal records the checksum of the snapshot it applies to. A journal whose
+ * checksum does not match the snapshot on disk is ignored, which covers both a crash in the middle of a
+ * compaction and a snapshot that was edited by hand.
+ *
+ * Snapshots are saved atomically, keeping {@link #DEFAULT_BACKUP_GENERATIONS} backups. If the snapshot cannot be
+ * read, the newest readable backup is loaded instead, with the journal replayed on it if the journal belongs to
+ * that backup, as it does after a crash in the middle of a compaction.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    public static final int DEFAULT_BACKUP_GENERATIONS = 2;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final JsonAddressBookStorage snapshotStorage;
+    private final Path filePath;
+    private final Path journalFilePath;
+    private final int compactionThreshold;
+
+    /** Patients as they are currently persisted, or null if the next save must write a full snapshot. */
+    private List<Patient> persistedPatients;
+    private int journalEntryCount;
+    /** Whether the journal on disk does not belong to the current snapshot and must be restarted. */
+    private boolean isJournalStale;
+    private boolean hasIncompleteEntry;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that compacts the journal after {@code compactionThreshold}
+     * entries.
+     */
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold) {
+        requireNonNull(filePath);
+        assert compactionThreshold > 0;
+        this.filePath = filePath;
+        this.journalFilePath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+        this.compactionThreshold = compactionThreshold;
+        this.snapshotStorage = new JsonAddressBookStorage(filePath, DEFAULT_BACKUP_GENERATIONS);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Only the data file of this storage has a journal; other files are read as plain json snapshots.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        persistedPatients = null;
+        Optional<ReadOnlyAddressBook> snapshot;
+        try {
+            snapshot = snapshotStorage.readDataFile(filePath);
+        } catch (DataLoadingException e) {
+            snapshot = Optional.empty();
+        }
+        if (!snapshot.isPresent()) {
+            // Shards take the place of a data file that was converted into them, but not of an unreadable one.
+            if (Files.exists(filePath) || !ShardedAddressBookStorage.hasShards(filePath)) {
+                Optional<ReadOnlyAddressBook> backup = readNewestBackup();
+                if (backup.isPresent()) {
+                    return backup;
+                }
+            }
+            if (Files.exists(journalFilePath)) {
+                logger.warning("Ignoring journal " + journalFilePath + " as its data file is missing or unreadable.");
+            }
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        try {
+            if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+                // The journal cannot apply to a snapshot in another format, so the next save rewrites it as json.
+                logger.info("Data file " + filePath + " is binary, converting it to json on the next save.");
+                return snapshot;
+            }
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+
+        List<Patient> patients = new ArrayList<>(snapshot.get().getPatientList());
+        persistedPatients = new ArrayList<>(patients);
+        journalEntryCount = 0;
+        isJournalStale = true;
+        if (!Files.exists(journalFilePath)) {
+            return snapshot;
+        }
+
+        hasIncompleteEntry = false;
+        Optional<AddressBook> replayed = replayJournal(patients, filePath);
+        if (!replayed.isPresent()) {
+            return snapshot;
+        }
+        isJournalStale = false;
+        // Appending after an incomplete entry would corrupt the journal, so the next save compacts it instead.
+        persistedPatients = hasIncompleteEntry ? null : new ArrayList<>(patients);
+        return Optional.of(replayed.get());
+    }
+
+    /**
+     * Returns the newest readable backup of the data file, with the journal replayed on it if the journal belongs
+     * to that backup, or {@code Optional.empty()} if there is no readable backup.
+     * The next save writes a full snapshot.
+     */
+    private Optional<ReadOnlyAddressBook> readNewestBackup() throws DataLoadingException {
+        for (int generation = 1; Files.exists(FileUtil.getBackupPath(filePath, generation)); generation++) {
+            Path backupPath = FileUtil.getBackupPath(filePath, generation);
+            Optional<ReadOnlyAddressBook> backup;
+            try {
+                backup = snapshotStorage.readDataFile(backupPath);
+            } catch (DataLoadingException e) {
+                logger.warning("Backup " + backupPath + " could not be loaded either.");
+                continue;
+            }
+            if (!backup.isPresent()) {
+                continue;
+            }
+
+            logger.warning("Data file " + filePath + " could not be loaded, recovered it from " + backupPath);
+            List<Patient> patients = new ArrayList<>(backup.get().getPatientList());
+            Optional<AddressBook> replayed = Files.exists(journalFilePath)
+                    ? replayJournal(patients, backupPath)
+                    : Optional.empty();
+            return replayed.isPresent() ? Optional.of(replayed.get()) : backup;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the address book made by applying the journal to {@code patients}, which were read from
+     * {@code snapshotPath}, or {@code Optional.empty()} if the journal does not belong to that snapshot.
+     */
+    private Optional<AddressBook> replayJournal(List<Patient> patients, Path snapshotPath)
+            throws DataLoadingException {
+        try {
+            int replayed = replayJournalEntries(patients, snapshotPath);
+            if (replayed < 0) {
+                return Optional.empty();
+            }
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPatients(patients);
+            journalEntryCount = replayed;
+            logger.info("Replayed " + replayed + " journal entries from " + journalFilePath + " on " + snapshotPath);
+            return Optional.of(addressBook);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error replaying journal " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (DuplicatePatientException dpe) {
+            logger.warning("Journal " + journalFilePath + " produced duplicate patients: " + dpe.getMessage());
+            throw new DataLoadingException(dpe);
+        }
+    }
+
+    /**
+     * Applies the journal entries to {@code patients}.
+     * A partially written last line, left behind by a crash during an append, is skipped.
+     *
+     * @return the number of entries applied, or -1 if the journal does not belong to {@code snapshotPath}.
+     */
+    private int replayJournalEntries(List<Patient> patients, Path snapshotPath)
+            throws IOException, IllegalValueException {
+        List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        if (lines.isEmpty()) {
+            return -1;
+        }
+
+        if (!isJournalOfSnapshot(lines.get(0), snapshotPath)) {
+            logger.warning("Ignoring journal " + journalFilePath + " as it does not match " + snapshotPath);
+            return -1;
+        }
+
+        int applied = 0;
+        for (int i = 1; i < lines.size(); i++) {
+            JsonJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonJournalEntry.class);
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Skipping incomplete last entry of journal " + journalFilePath);
+                    hasIncompleteEntry = true;
+                    break;
+                }
+                throw ioe;
+            }
+            entry.applyTo(patients);
+            applied++;
+        }
+        return applied;
+    }
+
+    /**
+     * Returns true if {@code headerLine} is a journal header for the snapshot at {@code snapshotPath}.
+     */
+    private boolean isJournalOfSnapshot(String headerLine, Path snapshotPath) throws IOException {
+        JsonJournalEntry header;
+        try {
+            header = JsonUtil.fromJsonString(headerLine, JsonJournalEntry.class);
+        } catch (IOException ioe) {
+            return false;
+        }
+        return header.getOperation() == JsonJournalEntry.Operation.SNAPSHOT
+                && header.getChecksum() != null
+                && header.getChecksum() == FileUtil.checksumOf(snapshotPath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a file other than the data file of this storage writes a plain json snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Patient> patients = addressBook.getPatientList();
+        Optional<List<JsonJournalEntry>> entries = persistedPatients == null
+                ? Optional.empty()
+                : diff(persistedPatients, patients);
+
+        if (!entries.isPresent() || journalEntryCount + entries.get().size() > compactionThreshold) {
+            compact(addressBook);
+            return;
+        }
+        if (entries.get().isEmpty()) {
+            return;
+        }
+        if (isJournalStale) {
+            startJournal();
+        }
+
+        try (BufferedWriter writer = Files.newBufferedWriter(journalFilePath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (JsonJournalEntry entry : entries.get()) {
+                writer.write(JsonUtil.toCompactJsonString(entry));
+                writer.newLine();
+            }
+        } catch (IOException ioe) {
+            // The journal may end in a partial entry now, so the next save must compact it.
+            persistedPatients = null;
+            throw ioe;
+        }
+        persistedPatients = new ArrayList<>(patients);
+        journalEntryCount += entries.get().size();
+    }
+
+    /**
+     * Writes {@code addressBook} as a fresh json snapshot and starts a new, empty journal for it.
+     */
+    public void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        // Forget the persisted state first so that a failure below forces another compaction on the next save.
+        persistedPatients = null;
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        startJournal();
+
+        persistedPatients = new ArrayList<>(addressBook.getPatientList());
+        journalEntryCount = 0;
+        logger.fine("Compacted journal " + journalFilePath + " into " + filePath);
+    }
+
+    /**
+     * Replaces the journal with one that holds only the header for the snapshot currently on disk.
+     */
+    private void startJournal() throws IOException {
+        String header = JsonUtil.toCompactJsonString(JsonJournalEntry.snapshot(FileUtil.checksumOf(filePath)));
+        Files.write(journalFilePath, (header + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+        isJournalStale = false;
+    }
+
+    /**
+     * Returns the journal entries that turn {@code before} into {@code after}, or {@code Optional.empty()} if
+     * the change is not a sequence of in-place edits, a single append or a single removal.
+     */
+    private static Optional<List<JsonJournalEntry>> diff(List<Patient> before, List<Patient> after) {
+        List<JsonJournalEntry> entries = new ArrayList<>();
+
+        if (after.size() == before.size()) {
+            for (int i = 0; i < after.size(); i++) {
+                if (!isUnchanged(before.get(i), after.get(i))) {
+                    addEditEntries(entries, i, before.get(i), after.get(i));
+                }
+            }
+            return Optional.of(entries);
+        }
+
+        if (after.size() == before.size() + 1) {
+            for (int i = 0; i < before.size(); i++) {
+                if (!isUnchanged(before.get(i), after.get(i))) {
+                    return Optional.empty();
+                }
+            }
+            entries.add(JsonJournalEntry.addPatient(after.get(before.size())));
+            return Optional.of(entries);
+        }
+
+        if (after.size() == before.size() - 1) {
+            int removedIndex = 0;
+            while (removedIndex < after.size() && isUnchanged(before.get(removedIndex), after.get(removedIndex))) {
+                removedIndex++;
+            }
+            for (int i = removedIndex; i < after.size(); i++) {
+                if (!isUnchanged(before.get(i + 1), after.get(i))) {
+                    return Optional.empty();
+                }
+            }
+            entries.add(JsonJournalEntry.deletePatient(removedIndex));
+            return Optional.of(entries);
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Adds the entries that turn {@code before} into {@code after} at position {@code index}.
+     * Changes confined to the notes of a patient are recorded note by note; anything else replaces the patient.
+     */
+    private static void addEditEntries(List<JsonJournalEntry> entries, int index, Patient before, Patient after) {
+        boolean isOnlyNotesChanged = before.getName().equals(after.getName())
+                && before.getPhone().equals(after.getPhone())
+                && before.getAddress().equals(after.getAddress())
+                && before.getTags().equals(after.getTags());
+        if (!isOnlyNotesChanged) {
+            entries.add(JsonJournalEntry.editPatient(index, after));
+            return;
+        }
+
+        Set<Note> beforeNotes = new HashSet<>(before.getNotes());
+        Set<Note> afterNotes = new HashSet<>(after.getNotes());
+        List<Note> removedNotes = new ArrayList<>(before.getNotes());
+        removedNotes.removeIf(afterNotes::contains);
+        List<Note> addedNotes = new ArrayList<>(after.getNotes());
+        addedNotes.removeIf(beforeNotes::contains);
+
+        for (Note removed : removedNotes) {
+            Optional<Note> replacement = addedNotes.stream()
+                    .filter(added -> added.getTitle().equalsIgnoreCase(removed.getTitle()))
+                    .findFirst();
+            if (replacement.isPresent()) {
+                entries.add(JsonJournalEntry.editNote(index, removed.getTitle(), replacement.get()));
+                addedNotes.remove(replacement.get());
+            } else {
+                entries.add(JsonJournalEntry.deleteNote(index, removed.getTitle()));
+            }
+        }
+        for (Note added : addedNotes) {
+            entries.add(JsonJournalEntry.addNote(index, added));
+        }
+    }
+
+    private static boolean isUnchanged(Patient before, Patient after) {
+        return before == after || before.equals(after);
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -12,6 +14,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.note.Note;
+import seedu.address.model.note.NoteLoader;
 import seedu.address.model.patient.Address;
 import seedu.address.model.patient.Name;
 import seedu.address.model.patient.Patient;
@@ -75,6 +78,34 @@ class JsonAdaptedPatient {
      * @throws IllegalValueException if there were any data constraints violated in the adapted patient.
      */
     public Patient toModelType() throws IllegalValueException {
+        return convert(null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted patient object, whose notes are left out, into the model's
+     * {@code Patient} object whose notes are loaded by {@code noteLoader} when they are first needed.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted patient.
+     */
+    public Patient toModelType(NoteLoader noteLoader) throws IllegalValueException {
+        requireNonNull(noteLoader);
+        return convert(noteLoader);
+    }
+
+    /**
+     * Returns the model's notes for {@code adaptedNotes}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted notes.
+     */
+    static TreeSet<Note> toModelNotes(List<JsonAdaptedNote> adaptedNotes) throws IllegalValueException {
+        final TreeSet<Note> modelNotes = new TreeSet<>();
+        for (JsonAdaptedNote note : adaptedNotes) {
+            modelNotes.add(note.toModelType());
+        }
+        return modelNotes;
+    }
+
+    private Patient convert(NoteLoader noteLoader) throws IllegalValueException {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -106,12 +137,13 @@ class JsonAdaptedPatient {
         }
         final Set<Tag> modelTags = new HashSet<>(patientTags);
 
-        // Convert notes from JSON to the internal TreeSet<Note> model structure
-        final TreeSet<Note> modelNotes = new TreeSet<>();
-        for (JsonAdaptedNote note : notes) {
-            modelNotes.add(note.toModelType());
+        if (noteLoader != null) {
+            return new Patient(modelName, modelPhone, modelAddress, modelTags, noteLoader);
         }
 
+        // Convert notes from JSON to the internal TreeSet<Note> model structure
+        final TreeSet<Note> modelNotes = toModelNotes(notes);
+
         return new Patient(modelName, modelPhone, modelAddress, modelTags, modelNotes);
     }
 }
@@ -2,11 +2,18 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -16,15 +23,33 @@ import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is streamed one patient at a time in both directions, so neither the file contents nor the whole
+ * json tree are ever held in memory at once. A file in the binary format is read as such, so that data saved
+ * in that format can be converted, and so is the data of a {@link ShardedAddressBookStorage} if the file is missing.
+ *
+ * Saves are atomic: the new data is written to a temporary file and forced to disk before it replaces the data
+ * file, optionally keeping the replaced files as rolling backups. If the data file cannot be read, or has gone
+ * missing, the newest backup that can be read is loaded instead.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final int backupGenerations;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that keeps the last {@code backupGenerations} replaced data files
+     * as backups.
+     */
+    public JsonAddressBookStorage(Path filePath, int backupGenerations) {
+        assert backupGenerations >= 0;
         this.filePath = filePath;
+        this.backupGenerations = backupGenerations;
     }
 
     public Path getAddressBookFilePath() {
@@ -38,24 +63,78 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * Falls back to the newest readable backup of {@code filePath} if it cannot be read or is missing.
      *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataLoadingException if loading the data from storage failed.
+     * @throws DataLoadingException if neither the data nor any of its backups could be loaded.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        DataLoadingException loadingFailure = null;
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = readDataFile(filePath);
+            if (addressBook.isPresent()) {
+                return addressBook;
+            }
+        } catch (DataLoadingException e) {
+            loadingFailure = e;
+        }
+
+        if (loadingFailure == null && ShardedAddressBookStorage.hasShards(filePath)) {
+            logger.info("Data file " + filePath + " is missing, reading its shards instead.");
+            return new ShardedAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+
+        for (int generation = 1; Files.exists(FileUtil.getBackupPath(filePath, generation)); generation++) {
+            Path backupPath = FileUtil.getBackupPath(filePath, generation);
+            try {
+                Optional<ReadOnlyAddressBook> addressBook = readDataFile(backupPath);
+                logger.warning("Data file " + filePath + " could not be loaded, recovered it from " + backupPath);
+                return addressBook;
+            } catch (DataLoadingException e) {
+                logger.warning("Backup " + backupPath + " could not be loaded either.");
+            }
+        }
+
+        if (loadingFailure != null) {
+            throw loadingFailure;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the json or binary data in {@code filePath} alone, without falling back to its backups.
+     */
+    Optional<ReadOnlyAddressBook> readDataFile(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
+        DataFileEvent event = new DataFileEvent();
+        event.begin();
+        Optional<ReadOnlyAddressBook> addressBook = readExistingDataFile(filePath);
+        event.commit(DataFileEvent.READ, filePath);
+        return addressBook;
+    }
 
+    private Optional<ReadOnlyAddressBook> readExistingDataFile(Path filePath) throws DataLoadingException {
         try {
-            // to check if data is extracted correctly
-            // logger.info("Manage to get from json " + jsonAddressBook.get().toModelType().toString());
-            return Optional.of(jsonAddressBook.get().toModelType());
+            if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+                logger.info("Data file " + filePath + " is binary, reading it as binary.");
+                return new BinaryAddressBookStorage(filePath).readAddressBook(filePath);
+            }
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8);
+                JsonParser parser = JsonUtil.createParser(reader)) {
+            return Optional.of(JsonSerializableAddressBook.readAddressBook(parser));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -76,8 +155,15 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        DataFileEvent event = new DataFileEvent();
+        event.begin();
+        FileUtil.writeAtomically(filePath, backupGenerations, out -> {
+            try (JsonGenerator generator = JsonUtil.createPrettyGenerator(
+                    new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+                JsonSerializableAddressBook.writeAddressBook(addressBook, generator);
+            }
+        });
+        event.commit(DataFileEvent.WRITE, filePath);
     }
 
 }
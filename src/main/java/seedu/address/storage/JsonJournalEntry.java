@@ -0,0 +1,169 @@
+package seedu.address.storage;
+
+import java.util.List;
+import java.util.TreeSet;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.note.Note;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Jackson-friendly record of a single change to the address book, stored as one line of the journal
+ * written by {@link JournalAddressBookStorage}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonJournalEntry {
+
+    public static final String MESSAGE_MISSING_PATIENT = "Journal entry refers to a missing patient at index %1$d";
+    public static final String MESSAGE_MISSING_NOTE = "Journal entry refers to a missing note titled %1$s";
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry is missing its %1$s field";
+
+    /**
+     * Kinds of journal entries.
+     */
+    enum Operation {
+        SNAPSHOT, ADD_PATIENT, EDIT_PATIENT, DELETE_PATIENT, ADD_NOTE, EDIT_NOTE, DELETE_NOTE
+    }
+
+    private final Operation operation;
+    private final Integer index;
+    private final JsonAdaptedPatient patient;
+    private final String noteTitle;
+    private final JsonAdaptedNote note;
+    private final Long checksum;
+
+    /**
+     * Constructs a {@code JsonJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonJournalEntry(@JsonProperty("operation") Operation operation,
+                            @JsonProperty("index") Integer index,
+                            @JsonProperty("patient") JsonAdaptedPatient patient,
+                            @JsonProperty("noteTitle") String noteTitle,
+                            @JsonProperty("note") JsonAdaptedNote note,
+                            @JsonProperty("checksum") Long checksum) {
+        this.operation = operation;
+        this.index = index;
+        this.patient = patient;
+        this.noteTitle = noteTitle;
+        this.note = note;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Returns the header entry of a journal, which ties the journal to the snapshot with the given checksum.
+     */
+    public static JsonJournalEntry snapshot(long checksum) {
+        return new JsonJournalEntry(Operation.SNAPSHOT, null, null, null, null, checksum);
+    }
+
+    public static JsonJournalEntry addPatient(Patient patient) {
+        return new JsonJournalEntry(Operation.ADD_PATIENT, null, new JsonAdaptedPatient(patient), null, null, null);
+    }
+
+    public static JsonJournalEntry editPatient(int index, Patient editedPatient) {
+        return new JsonJournalEntry(Operation.EDIT_PATIENT, index, new JsonAdaptedPatient(editedPatient),
+                null, null, null);
+    }
+
+    public static JsonJournalEntry deletePatient(int index) {
+        return new JsonJournalEntry(Operation.DELETE_PATIENT, index, null, null, null, null);
+    }
+
+    public static JsonJournalEntry addNote(int index, Note note) {
+        return new JsonJournalEntry(Operation.ADD_NOTE, index, null, null, new JsonAdaptedNote(note), null);
+    }
+
+    public static JsonJournalEntry editNote(int index, String oldTitle, Note editedNote) {
+        return new JsonJournalEntry(Operation.EDIT_NOTE, index, null, oldTitle, new JsonAdaptedNote(editedNote), null);
+    }
+
+    public static JsonJournalEntry deleteNote(int index, String title) {
+        return new JsonJournalEntry(Operation.DELETE_NOTE, index, null, title, null, null);
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public Long getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Applies this entry to {@code patients}, in the same way that the original change was applied to the model.
+     *
+     * @throws IllegalValueException if this entry is incomplete or does not fit {@code patients}.
+     */
+    public void applyTo(List<Patient> patients) throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "operation"));
+        }
+
+        switch (operation) {
+        case SNAPSHOT:
+            return;
+        case ADD_PATIENT:
+            patients.add(requirePatient());
+            return;
+        case EDIT_PATIENT:
+            patients.set(requireIndex(patients), requirePatient());
+            return;
+        case DELETE_PATIENT:
+            patients.remove(requireIndex(patients));
+            return;
+        default:
+            break;
+        }
+
+        int targetIndex = requireIndex(patients);
+        Patient target = patients.get(targetIndex);
+        TreeSet<Note> updatedNotes = new TreeSet<>(target.getNotes());
+        if (operation == Operation.EDIT_NOTE || operation == Operation.DELETE_NOTE) {
+            updatedNotes.remove(findNote(updatedNotes));
+        }
+        if (operation == Operation.ADD_NOTE || operation == Operation.EDIT_NOTE) {
+            updatedNotes.add(requireNote());
+        }
+        patients.set(targetIndex, new Patient(target.getName(), target.getPhone(), target.getAddress(),
+                target.getTags(), updatedNotes));
+    }
+
+    private int requireIndex(List<Patient> patients) throws IllegalValueException {
+        if (index == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "index"));
+        }
+        if (index < 0 || index >= patients.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_PATIENT, index));
+        }
+        return index;
+    }
+
+    private Patient requirePatient() throws IllegalValueException {
+        if (patient == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "patient"));
+        }
+        return patient.toModelType();
+    }
+
+    private Note requireNote() throws IllegalValueException {
+        if (note == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "note"));
+        }
+        return note.toModelType();
+    }
+
+    private Note findNote(TreeSet<Note> notes) throws IllegalValueException {
+        if (noteTitle == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "noteTitle"));
+        }
+        return notes.stream()
+                .filter(n -> n.getTitle().equals(noteTitle))
+                .findFirst()
+                .orElseThrow(() -> new IllegalValueException(String.format(MESSAGE_MISSING_NOTE, noteTitle)));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,11 +8,17 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.exceptions.DuplicatePatientException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -20,6 +27,9 @@ import seedu.address.model.patient.Patient;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PATIENT = "Patients list contains duplicate patient(s).";
+    public static final String MESSAGE_DUPLICATE_PATIENT_NAMES = MESSAGE_DUPLICATE_PATIENT + " Duplicated names: %1$s";
+
+    private static final String PATIENTS_FIELD = "patients";
 
     private final List<JsonAdaptedPatient> patients = new ArrayList<>();
 
@@ -42,17 +52,89 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this app into the model's {@code AddressBook} object.
+     * All patients are converted first, in parallel for large address books, and then checked for duplicates
+     * in a single pass, so that every duplicated name is reported at once.
      *
      * @throws IllegalValueException if there were any data constraints violated.
+     * @throws DataLoadingException if the thread was interrupted while the patients were being converted.
      */
-    public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPatient jsonAdaptedPatient : patients) {
-            Patient patient = jsonAdaptedPatient.toModelType();
-            if (addressBook.hasPatient(patient)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PATIENT);
+    public AddressBook toModelType() throws IllegalValueException, DataLoadingException {
+        return toAddressBook(PatientConverter.convertAll(patients));
+    }
+
+    /**
+     * Reads an address book in the format of this class from {@code parser}, one patient at a time.
+     * Patients are converted to the model in batches while the following patients are read, so only the
+     * {@code JsonAdaptedPatient}s of batches still being converted are held in memory.
+     * Properties other than the patients are skipped, as when reading this class.
+     *
+     * @throws IOException if the input is not valid JSON or does not have the expected structure.
+     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws DataLoadingException if the thread was interrupted while the patients were being converted.
+     */
+    public static AddressBook readAddressBook(JsonParser parser)
+            throws IOException, IllegalValueException, DataLoadingException {
+        return toAddressBook(readPatients(parser));
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(JsonParser)}, but returns the patients without checking for duplicates.
+     */
+    static List<Patient> readPatients(JsonParser parser)
+            throws IOException, IllegalValueException, DataLoadingException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        PatientConverter converter = new PatientConverter();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!PATIENTS_FIELD.equals(fieldName) || value == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array of patients");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                converter.add(parser.readValueAs(JsonAdaptedPatient.class));
             }
-            addressBook.addPatient(patient);
+        }
+        return converter.finish();
+    }
+
+    /**
+     * Writes {@code source} in the format of this class to {@code generator}, one patient at a time,
+     * without building the whole document in memory first.
+     */
+    public static void writeAddressBook(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        writePatients(source.getPatientList(), generator);
+    }
+
+    /**
+     * Writes {@code patients} as an address book in the format of this class to {@code generator}.
+     */
+    static void writePatients(List<Patient> patients, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(PATIENTS_FIELD);
+        for (Patient patient : patients) {
+            generator.writeObject(new JsonAdaptedPatient(patient));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Returns an {@code AddressBook} holding {@code modelPatients}, checking for duplicates in a single pass.
+     */
+    static AddressBook toAddressBook(List<Patient> modelPatients) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPatients(modelPatients);
+        } catch (DuplicatePatientException dpe) {
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_PATIENT_NAMES,
+                    DuplicatePatientException.joinNames(dpe.getDuplicateNames())));
         }
         return addressBook;
     }
@@ -0,0 +1,38 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly manifest of the data written by {@link ShardedAddressBookStorage}.
+ * It records how patients are spread over the shards and the order of the patients in the address book.
+ */
+class JsonShardManifest {
+
+    private final int bucketCount;
+    /** {@code Name#getIdentityKey()} of every patient, in address book order. */
+    private final List<String> patients = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("bucketCount") int bucketCount,
+                             @JsonProperty("patients") List<String> patients) {
+        this.bucketCount = bucketCount;
+        if (patients != null) {
+            this.patients.addAll(patients);
+        }
+    }
+
+    public int getBucketCount() {
+        return bucketCount;
+    }
+
+    public List<String> getPatients() {
+        return patients;
+    }
+}
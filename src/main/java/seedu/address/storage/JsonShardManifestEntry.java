@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly record of a single change to the order of the patients, stored as one line of the manifest
+ * journal written by {@link ShardedAddressBookStorage}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonShardManifestEntry {
+
+    public static final String MESSAGE_MISSING_PATIENT = "Manifest entry refers to a missing patient at index %1$d";
+    public static final String MESSAGE_INVALID_ENTRY = "Manifest entry is missing its %1$s field";
+
+    /**
+     * Kinds of manifest journal entries.
+     */
+    enum Operation {
+        MANIFEST, ADD_PATIENT, RENAME_PATIENT, DELETE_PATIENT
+    }
+
+    private final Operation operation;
+    private final Integer index;
+    private final String patient;
+    private final Long checksum;
+
+    /**
+     * Constructs a {@code JsonShardManifestEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonShardManifestEntry(@JsonProperty("operation") Operation operation,
+                                  @JsonProperty("index") Integer index,
+                                  @JsonProperty("patient") String patient,
+                                  @JsonProperty("checksum") Long checksum) {
+        this.operation = operation;
+        this.index = index;
+        this.patient = patient;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Returns the header entry of a manifest journal, which ties the journal to the manifest with the given checksum.
+     */
+    public static JsonShardManifestEntry manifest(long checksum) {
+        return new JsonShardManifestEntry(Operation.MANIFEST, null, null, checksum);
+    }
+
+    public static JsonShardManifestEntry addPatient(String identityKey) {
+        return new JsonShardManifestEntry(Operation.ADD_PATIENT, null, identityKey, null);
+    }
+
+    public static JsonShardManifestEntry renamePatient(int index, String identityKey) {
+        return new JsonShardManifestEntry(Operation.RENAME_PATIENT, index, identityKey, null);
+    }
+
+    public static JsonShardManifestEntry deletePatient(int index) {
+        return new JsonShardManifestEntry(Operation.DELETE_PATIENT, index, null, null);
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public Long getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Applies this entry to the identity keys in {@code order}, recording a rename in {@code renamedFrom} as a
+     * mapping from the new identity key to the old one.
+     *
+     * @throws IllegalValueException if this entry is incomplete or does not fit {@code order}.
+     */
+    public void applyTo(List<String> order, Map<String, String> renamedFrom) throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "operation"));
+        }
+
+        switch (operation) {
+        case ADD_PATIENT:
+            order.add(requirePatient());
+            return;
+        case RENAME_PATIENT:
+            String newKey = requirePatient();
+            renamedFrom.put(newKey, order.set(requireIndex(order), newKey));
+            return;
+        case DELETE_PATIENT:
+            order.remove(requireIndex(order));
+            return;
+        default:
+            return;
+        }
+    }
+
+    private int requireIndex(List<String> order) throws IllegalValueException {
+        if (index == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "index"));
+        }
+        if (index < 0 || index >= order.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_PATIENT, index));
+        }
+        return index;
+    }
+
+    private String requirePatient() throws IllegalValueException {
+        if (patient == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "patient"));
+        }
+        return patient;
+    }
+}
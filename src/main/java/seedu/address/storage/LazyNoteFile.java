@@ -0,0 +1,197 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.note.Note;
+import seedu.address.model.note.NoteLoader;
+
+/**
+ * A binary data file from which the notes of patients are loaded the first time they are needed.
+ *
+ * Every patient read lazily by {@link BinaryAddressBookStorage} gets a {@link NoteBlock} recording where its notes
+ * are in the file, and loading the notes reads only those bytes. When the file is replaced by a save, the blocks
+ * that were copied into the new file are moved to their new offsets, and every other block is loaded beforehand,
+ * as the patients holding them, such as those kept for undo, would otherwise lose their notes.
+ * The new file is written next to this one while notes can still be loaded from it, and notes are only held back
+ * while the new file is moved into place and the blocks are moved to their new offsets.
+ */
+class LazyNoteFile {
+
+    private static final Logger logger = LogsCenter.getLogger(LazyNoteFile.class);
+
+    private final Path path;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<NoteBlock> unloadedBlocks = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Writes a new version of a file, copying the unloaded blocks it keeps from {@code source}, which is open on
+     * this file, and putting the offsets it copied them to in {@code copiedBlockOffsets}.
+     */
+    @FunctionalInterface
+    interface Replacement {
+        void writeTo(OutputStream out, FileChannel source, Map<NoteBlock, Long> copiedBlockOffsets)
+                throws IOException;
+    }
+
+    LazyNoteFile(Path path) {
+        requireNonNull(path);
+        this.path = path;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * Returns a block for the notes stored in the {@code length} bytes at {@code offset}.
+     */
+    NoteBlock addBlock(long offset, int length) {
+        NoteBlock block = new NoteBlock(offset, length);
+        unloadedBlocks.add(block);
+        return block;
+    }
+
+    /**
+     * Replaces this file with {@code replacement}, keeping only {@code keptBlocks} in the file.
+     * Every other block that is not loaded yet is loaded first, and the kept blocks are moved to their offsets
+     * in the new file once it has replaced the old one. If the replacement fails, the old file and its blocks
+     * are left as they were.
+     */
+    synchronized void replace(Set<NoteBlock> keptBlocks, Replacement replacement) throws IOException {
+        for (NoteBlock block : new ArrayList<>(unloadedBlocks)) {
+            if (!keptBlocks.contains(block)) {
+                loadBeforeReplacing(block);
+            }
+        }
+
+        Map<NoteBlock, Long> newOffsets = new IdentityHashMap<>();
+        Path tempFile;
+        try (FileChannel source = FileChannel.open(path, StandardOpenOption.READ)) {
+            tempFile = FileUtil.writeTempFile(path, out -> replacement.writeTo(out, source, newOffsets));
+        }
+
+        lock.writeLock().lock();
+        try {
+            FileUtil.replaceWithTempFile(path, 0, tempFile);
+            for (NoteBlock block : new ArrayList<>(unloadedBlocks)) {
+                Long newOffset = newOffsets.get(block);
+                if (newOffset != null) {
+                    block.offset = newOffset;
+                } else {
+                    block.markLost();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes {@code content} to {@code file}, which is not this file, copying unloaded blocks from this file.
+     */
+    synchronized void copyTo(Path file, Replacement content) throws IOException {
+        try (FileChannel source = FileChannel.open(path, StandardOpenOption.READ)) {
+            FileUtil.writeAtomically(file, out -> content.writeTo(out, source, new IdentityHashMap<>()));
+        }
+    }
+
+    private void loadBeforeReplacing(NoteBlock block) {
+        try {
+            block.loadNotes();
+        } catch (IllegalStateException ise) {
+            logger.warning("Notes that could not be loaded are dropped from " + path + ": " + ise.getMessage());
+            block.markLost();
+        }
+    }
+
+    /**
+     * The notes of one patient, loaded from this file when they are first needed.
+     */
+    class NoteBlock implements NoteLoader {
+
+        private final int length;
+        private long offset;
+        private TreeSet<Note> notes;
+        private boolean isLost;
+
+        private NoteBlock(long offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+
+        LazyNoteFile getFile() {
+            return LazyNoteFile.this;
+        }
+
+        @Override
+        public TreeSet<Note> loadNotes() {
+            lock.readLock().lock();
+            try {
+                synchronized (this) {
+                    if (notes == null) {
+                        byte[] bytes;
+                        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                            bytes = readBytes(channel);
+                        }
+                        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+                        notes = JsonAdaptedPatient.toModelNotes(BinaryAddressBookStorage.decodeNotes(in));
+                        unloadedBlocks.remove(this);
+                    }
+                    return notes;
+                }
+            } catch (IOException | IllegalValueException e) {
+                throw new IllegalStateException("Notes could not be loaded from " + path, e);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * Returns the stored bytes of these notes read from {@code source}, which is open on this file, or null if
+         * they have been loaded, in which case they are to be taken from {@link #loadNotes()} instead.
+         * Only called while this file is being replaced or copied, so the offset of these notes cannot change.
+         */
+        synchronized byte[] readBytesIfUnloaded(FileChannel source) throws IOException {
+            return notes == null ? readBytes(source) : null;
+        }
+
+        private byte[] readBytes(FileChannel source) throws IOException {
+            if (isLost) {
+                throw new IOException("The notes are no longer in the file");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                if (source.read(buffer, offset + buffer.position()) == -1) {
+                    throw new IOException("The notes end beyond the end of the file");
+                }
+            }
+            return buffer.array();
+        }
+
+        private synchronized void markLost() {
+            isLost = true;
+            unloadedBlocks.remove(this);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Converts {@code JsonAdaptedPatient}s into the model's {@code Patient}s, validating them in parallel.
+ * Any other conversion into a {@code Patient}, such as one that leaves the notes to be loaded later, can be added
+ * as a {@link PendingPatient}.
+ *
+ * Patients are collected into batches as they are added, and every full batch is converted on the common
+ * fork-join pool while the caller goes on reading the next patients. The batches are joined in the order they
+ * were added, so the patients keep their order. Once a patient is found to be invalid, the batches still waiting
+ * or being converted are cancelled, and that patient is reported. Fewer patients than a batch are converted on the
+ * calling thread.
+ */
+class PatientConverter {
+
+    static final int BATCH_SIZE = 256;
+
+    private final List<ForkJoinTask<List<Patient>>> convertingBatches = new ArrayList<>();
+    private List<PendingPatient> batch = new ArrayList<>();
+    /** Set once a batch fails, so that the other batches stop converting. */
+    private volatile boolean hasFailed;
+
+    /**
+     * A patient that is yet to be converted into the model's {@code Patient}.
+     */
+    @FunctionalInterface
+    interface PendingPatient {
+        /**
+         * Returns the converted patient.
+         *
+         * @throws IllegalValueException if there were any data constraints violated.
+         */
+        Patient toModelType() throws IllegalValueException;
+    }
+
+    /**
+     * Returns the model's {@code Patient}s for {@code adaptedPatients}, in the same order.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws DataLoadingException if the thread was interrupted while waiting for the patients to be converted.
+     */
+    static List<Patient> convertAll(List<JsonAdaptedPatient> adaptedPatients)
+            throws IllegalValueException, DataLoadingException {
+        PatientConverter converter = new PatientConverter();
+        adaptedPatients.forEach(converter::add);
+        return converter.finish();
+    }
+
+    /**
+     * Adds {@code adaptedPatient} to be converted after the patients added before it.
+     */
+    void add(JsonAdaptedPatient adaptedPatient) {
+        requireNonNull(adaptedPatient);
+        add(adaptedPatient::toModelType);
+    }
+
+    /**
+     * Adds {@code pendingPatient} to be converted after the patients added before it.
+     */
+    void add(PendingPatient pendingPatient) {
+        requireNonNull(pendingPatient);
+        batch.add(pendingPatient);
+        if (batch.size() == BATCH_SIZE) {
+            List<PendingPatient> fullBatch = batch;
+            convertingBatches.add(ForkJoinPool.commonPool().submit(() -> convertBatch(fullBatch)));
+            batch = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Returns the converted patients, in the order they were added, once all of them are converted.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws DataLoadingException if the thread was interrupted while waiting for the patients to be converted.
+     *     The thread's interrupt status is restored.
+     */
+    List<Patient> finish() throws IllegalValueException, DataLoadingException {
+        try {
+            List<Patient> patients = new ArrayList<>(convertingBatches.size() * BATCH_SIZE + batch.size());
+            for (ForkJoinTask<List<Patient>> convertingBatch : convertingBatches) {
+                // A batch that stopped because a later batch failed is skipped, and that failure is thrown when
+                // the later batch is joined.
+                join(convertingBatch).ifPresent(patients::addAll);
+            }
+            patients.addAll(convertBatch(batch));
+            return patients;
+        } finally {
+            // Batches that are done are not affected; the others are not worth converting any more.
+            convertingBatches.forEach(convertingBatch -> convertingBatch.cancel(true));
+            convertingBatches.clear();
+            batch = new ArrayList<>();
+        }
+    }
+
+    private List<Patient> convertBatch(List<PendingPatient> pendingPatients) throws IllegalValueException {
+        List<Patient> patients = new ArrayList<>(pendingPatients.size());
+        try {
+            for (PendingPatient pendingPatient : pendingPatients) {
+                if (hasFailed) {
+                    throw new CancellationException("Another batch of patients failed to convert");
+                }
+                patients.add(pendingPatient.toModelType());
+            }
+        } catch (IllegalValueException | RuntimeException e) {
+            if (!(e instanceof CancellationException)) {
+                hasFailed = true;
+            }
+            throw e;
+        }
+        return patients;
+    }
+
+    /**
+     * Returns the patients of {@code convertingBatch} once it is converted, or an empty {@code Optional} if it was
+     * cancelled.
+     */
+    private static Optional<List<Patient>> join(ForkJoinTask<List<Patient>> convertingBatch)
+            throws IllegalValueException, DataLoadingException {
+        try {
+            return Optional.of(convertingBatch.get());
+        } catch (CancellationException ce) {
+            return Optional.empty();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException(ie);
+        } catch (ExecutionException ee) {
+            // The pool wraps checked exceptions of a task in a RuntimeException, and may wrap any exception again.
+            for (Throwable cause = ee.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof IllegalValueException) {
+                    throw (IllegalValueException) cause;
+                }
+                if (cause instanceof CancellationException) {
+                    return Optional.empty();
+                }
+            }
+            if (ee.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ee.getCause();
+            }
+            throw new IllegalStateException(ee.getCause());
+        }
+    }
+}
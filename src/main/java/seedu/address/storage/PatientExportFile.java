@@ -0,0 +1,132 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.format.DateTimeFormatter;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.note.Note;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Writes patients and their notes to a CSV or Markdown file, one patient at a time.
+ *
+ * A CSV file has a header row and one row per patient, in the columns read by {@link PatientImportFile}, followed
+ * by a {@code notes} column holding the patient's notes, one per line, oldest first. Importing the file again adds
+ * the patients without their notes, as the notes column is not imported. Cells that a spreadsheet would evaluate as
+ * formulas are written with a leading {@code '}, so that opening an export never runs what patients' details hold.
+ * A Markdown file has a section per patient, with a subsection per note, for reading or printing. Characters
+ * that Markdown would read as formatting are escaped.
+ *
+ * The output goes through a buffered writer straight to the file, so only one patient is held in memory at a
+ * time however many patients are written. The file is replaced atomically, so a failed export leaves no partial
+ * file behind.
+ */
+public class PatientExportFile {
+
+    public static final String CSV_EXTENSION = PatientImportFile.CSV_EXTENSION;
+    public static final String MARKDOWN_EXTENSION = ".md";
+
+    static final String NOTES_COLUMN = "notes";
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final String MARKDOWN_SPECIAL_CHARACTERS = "\\`*_#|[]<>";
+
+    /**
+     * Returns true if {@code file} is a CSV or Markdown file, by its extension.
+     */
+    public static boolean isSupported(Path file) {
+        requireNonNull(file);
+        return isCsv(file) || isMarkdown(file);
+    }
+
+    /**
+     * Writes {@code patients} to {@code file}, in order, replacing what the file held.
+     *
+     * @throws IOException if the file cannot be written, or is neither a CSV nor a Markdown file.
+     */
+    public static void write(Path file, Iterable<Patient> patients) throws IOException {
+        requireNonNull(file);
+        requireNonNull(patients);
+        if (!isSupported(file)) {
+            throw new IOException("Only " + CSV_EXTENSION + " and " + MARKDOWN_EXTENSION + " files can be exported");
+        }
+        boolean isCsv = isCsv(file);
+        FileUtil.writeAtomically(file, out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            if (isCsv) {
+                writeCsv(writer, patients);
+            } else {
+                writeMarkdown(writer, patients);
+            }
+            writer.flush();
+        });
+    }
+
+    private static void writeCsv(Writer writer, Iterable<Patient> patients) throws IOException {
+        CsvUtil.writeRecord(writer, PatientImportFile.NAME_COLUMN, PatientImportFile.PHONE_COLUMN,
+                PatientImportFile.ADDRESS_COLUMN, PatientImportFile.TAGS_COLUMN, NOTES_COLUMN);
+        for (Patient patient : patients) {
+            String tags = patient.getTags().stream().map(tag -> tag.tagName).collect(Collectors.joining(" "));
+            String notes = patient.getNotes().stream()
+                    .map(note -> "[" + formatDateTime(note) + "] " + note.getTitle() + ": " + note.getContent())
+                    .collect(Collectors.joining("\n"));
+            CsvUtil.writeRecord(writer, CsvUtil.escapeFormula(patient.getName().fullName),
+                    CsvUtil.escapeFormula(patient.getPhone().value), CsvUtil.escapeFormula(patient.getAddress().value),
+                    CsvUtil.escapeFormula(tags), CsvUtil.escapeFormula(notes));
+        }
+    }
+
+    private static void writeMarkdown(Writer writer, Iterable<Patient> patients) throws IOException {
+        writer.write("# Patients\n");
+        for (Patient patient : patients) {
+            writer.write("\n## " + escapeMarkdown(patient.getName().fullName) + "\n\n");
+            writer.write("- Phone: " + escapeMarkdown(patient.getPhone().value) + "\n");
+            writer.write("- Address: " + escapeMarkdown(patient.getAddress().value) + "\n");
+            if (!patient.getTags().isEmpty()) {
+                writer.write("- Tags: " + patient.getTags().stream().map(tag -> "`" + tag.tagName + "`")
+                        .collect(Collectors.joining(", ")) + "\n");
+            }
+            for (Note note : patient.getNotes()) {
+                writer.write("\n### " + escapeMarkdown(note.getTitle()) + "\n\n");
+                writer.write("_" + formatDateTime(note) + "_\n\n");
+                writer.write(escapeMarkdown(note.getContent()) + "\n");
+            }
+        }
+    }
+
+    /**
+     * Returns {@code text} with a backslash in front of every character that Markdown reads as formatting.
+     */
+    private static String escapeMarkdown(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (MARKDOWN_SPECIAL_CHARACTERS.indexOf(c) >= 0) {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    private static String formatDateTime(Note note) {
+        return note.getDateTimeCreated().format(DATE_TIME_FORMATTER);
+    }
+
+    private static boolean isCsv(Path file) {
+        return FileUtil.hasExtension(file, CSV_EXTENSION);
+    }
+
+    private static boolean isMarkdown(Path file) {
+        return FileUtil.hasExtension(file, MARKDOWN_EXTENSION);
+    }
+}
@@ -0,0 +1,242 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Reads the patients of a CSV or JSON file to be imported, one patient at a time.
+ *
+ * A CSV file starts with a header row naming its columns, in any order: {@code name}, {@code phone} and
+ * {@code address} are required, and {@code tags}, holding tags separated by spaces, is optional. Other columns are
+ * ignored. A JSON file holds either an array of patients, or an object with such an array in its {@code patients}
+ * property, so a copy of a data file can be imported as is.
+ *
+ * Reading a file only checks its structure. The patients are validated when they are converted to the model, so
+ * that the caller can validate them in parallel and report every invalid row. Files can be read a batch of rows at
+ * a time, so that a batch can be validated and dropped before the next one is read.
+ */
+public class PatientImportFile {
+
+    public static final String CSV_EXTENSION = ".csv";
+    public static final String JSON_EXTENSION = ".json";
+
+    static final String NAME_COLUMN = "name";
+    static final String PHONE_COLUMN = "phone";
+    static final String ADDRESS_COLUMN = "address";
+    static final String TAGS_COLUMN = "tags";
+
+    private static final String PATIENTS_FIELD = "patients";
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    /**
+     * A patient read from an import file, yet to be validated.
+     */
+    public static class ImportRow {
+        private final int rowNumber;
+        private final JsonAdaptedPatient adaptedPatient;
+
+        private ImportRow(int rowNumber, JsonAdaptedPatient adaptedPatient) {
+            this.rowNumber = rowNumber;
+            this.adaptedPatient = adaptedPatient;
+        }
+
+        /**
+         * Returns the row of the patient in a CSV file, counting the header as row 1, or the position of the
+         * patient in a JSON file, counting from 1.
+         */
+        public int getRowNumber() {
+            return rowNumber;
+        }
+
+        /**
+         * Returns the model's {@code Patient} for this row.
+         *
+         * @throws IllegalValueException if there were any data constraints violated.
+         */
+        public Patient toModelType() throws IllegalValueException {
+            return adaptedPatient.toModelType();
+        }
+    }
+
+    /**
+     * Returns true if {@code file} is a CSV or JSON file, by its extension.
+     */
+    public static boolean isSupported(Path file) {
+        requireNonNull(file);
+        return isCsv(file) || isJson(file);
+    }
+
+    /**
+     * Reads the patients of {@code file}, in the order they appear in it.
+     * Blank rows of a CSV file are skipped.
+     *
+     * @throws IOException if the file cannot be read, or does not have the structure described above.
+     */
+    public static List<ImportRow> read(Path file) throws IOException {
+        List<ImportRow> rows = new ArrayList<>();
+        read(file, Integer.MAX_VALUE, rows::addAll);
+        return rows;
+    }
+
+    /**
+     * Reads the patients of {@code file} in the order they appear in it, handing them to {@code batchHandler}
+     * in batches of up to {@code batchSize} as the file is read, so that the whole file is never held in memory.
+     * Blank rows of a CSV file are skipped.
+     *
+     * @throws IOException if the file cannot be read, or does not have the structure described above.
+     */
+    public static void read(Path file, int batchSize, Consumer<List<ImportRow>> batchHandler) throws IOException {
+        requireNonNull(file);
+        requireNonNull(batchHandler);
+        checkArgument(batchSize > 0, "Batches must hold at least one row");
+        if (!isSupported(file)) {
+            throw new IOException("Only " + CSV_EXTENSION + " and " + JSON_EXTENSION + " files can be imported");
+        }
+        RowBatcher rows = new RowBatcher(batchSize, batchHandler);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (isCsv(file)) {
+                readCsv(reader, rows);
+            } else {
+                readJson(reader, rows);
+            }
+        }
+        rows.flush();
+    }
+
+    private static void readCsv(BufferedReader reader, RowBatcher rows) throws IOException {
+        List<String> header = CsvUtil.readRecord(reader);
+        if (header == null) {
+            throw new IOException("The CSV file is empty; it should start with a header row");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).replace(BYTE_ORDER_MARK, "").trim().toLowerCase(Locale.ROOT);
+            columns.putIfAbsent(column, i);
+        }
+        for (String requiredColumn : List.of(NAME_COLUMN, PHONE_COLUMN, ADDRESS_COLUMN)) {
+            if (!columns.containsKey(requiredColumn)) {
+                throw new IOException("The CSV header row has no " + requiredColumn + " column");
+            }
+        }
+
+        int rowNumber = 1;
+        List<String> record;
+        while ((record = CsvUtil.readRecord(reader)) != null) {
+            rowNumber++;
+            if (record.stream().allMatch(String::isBlank)) {
+                continue;
+            }
+            String tags = getField(record, columns.get(TAGS_COLUMN));
+            List<JsonAdaptedTag> adaptedTags = new ArrayList<>();
+            if (tags != null) {
+                for (String tagName : tags.split("\\s+")) {
+                    adaptedTags.add(new JsonAdaptedTag(tagName));
+                }
+            }
+            rows.add(new ImportRow(rowNumber, new JsonAdaptedPatient(getField(record, columns.get(NAME_COLUMN)),
+                    getField(record, columns.get(PHONE_COLUMN)), getField(record, columns.get(ADDRESS_COLUMN)),
+                    adaptedTags, null)));
+        }
+    }
+
+    /**
+     * Returns the trimmed field of {@code record} in {@code column}, or null if it is missing or blank.
+     * A field escaped as text for spreadsheets, as {@link PatientExportFile} writes it, is unescaped.
+     */
+    private static String getField(List<String> record, Integer column) {
+        if (column == null || column >= record.size() || record.get(column).isBlank()) {
+            return null;
+        }
+        return CsvUtil.unescapeFormula(record.get(column).trim());
+    }
+
+    private static void readJson(BufferedReader reader, RowBatcher rows) throws IOException {
+        try (JsonParser parser = JsonUtil.createParser(reader)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String fieldName = parser.getCurrentName();
+                    if (parser.nextToken() == JsonToken.START_ARRAY && PATIENTS_FIELD.equals(fieldName)) {
+                        readJsonPatients(parser, rows);
+                        return;
+                    }
+                    parser.skipChildren();
+                }
+            } else if (token == JsonToken.START_ARRAY) {
+                readJsonPatients(parser, rows);
+                return;
+            }
+            throw new JsonParseException(parser, "Expected an array of patients, or an object with a "
+                    + PATIENTS_FIELD + " array");
+        }
+    }
+
+    private static void readJsonPatients(JsonParser parser, RowBatcher rows) throws IOException {
+        int patientNumber = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            patientNumber++;
+            if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected patient " + patientNumber + " to be an object");
+            }
+            rows.add(new ImportRow(patientNumber, parser.readValueAs(JsonAdaptedPatient.class)));
+        }
+    }
+
+    /**
+     * Collects rows into batches, handing each batch on once it is full.
+     */
+    private static class RowBatcher {
+        private final int batchSize;
+        private final Consumer<List<ImportRow>> batchHandler;
+        private List<ImportRow> batch = new ArrayList<>();
+
+        RowBatcher(int batchSize, Consumer<List<ImportRow>> batchHandler) {
+            this.batchSize = batchSize;
+            this.batchHandler = batchHandler;
+        }
+
+        void add(ImportRow row) {
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!batch.isEmpty()) {
+                batchHandler.accept(batch);
+                batch = new ArrayList<>();
+            }
+        }
+    }
+
+    private static boolean isCsv(Path file) {
+        return FileUtil.hasExtension(file, CSV_EXTENSION);
+    }
+
+    private static boolean isJson(Path file) {
+        return FileUtil.hasExtension(file, JSON_EXTENSION);
+    }
+}
@@ -0,0 +1,632 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.patient.Patient;
+
+/**
+ * A class to access AddressBook data stored as many small json files in a directory on the hard disk.
+ *
+ * Patients are spread over {@code bucketCount} shard files by a hash of their identity key, and a manifest
+ * records the order of the patients. Each save only rewrites the shards holding a patient that was added,
+ * edited or removed since the last save, so editing one note writes a single small shard. Shards are read in
+ * parallel.
+ *
+ * Changes to the order of the patients are appended to a manifest journal, as long as they are a few renames,
+ * a single addition or a single removal. The journal is folded back into the manifest once it holds more than
+ * {@link #MANIFEST_COMPACTION_THRESHOLD} entries, or whenever the order changes in any other way. As with
+ * {@link JournalAddressBookStorage}, the journal starts with the checksum of the manifest it applies to.
+ *
+ * Every shard and the manifest are saved atomically. The shards gaining or changing a patient are written
+ * first, still holding the patients that leave them, and only then are those patients dropped from their shards,
+ * so a crash part of the way through a save loses no patient. The shards are written before the order, and a
+ * patient in a shard but missing from the manifest is loaded after the patients in the manifest.
+ *
+ * A save that only renames patients is the exception: a rename usually moves a patient to another shard, so its
+ * journal entries are written ahead of the shards. A patient still in a shard under a name the journal records as
+ * renamed is then dropped if the renamed copy was written, and takes the place of the renamed copy otherwise.
+ * Renames saved together with additions or removals are recorded after the shards like any other change, so a
+ * crash between their shards can still leave the patient under both names.
+ *
+ * The directory sits next to the data file of the other formats. While such a data file exists it holds the
+ * latest data: it is read and converted, then moved aside once the shards have been written. The journal of the
+ * data file, if any, is already part of the converted data and is deleted.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_BUCKET_COUNT = 1024;
+    public static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    public static final String CONVERTED_FILE_SUFFIX = ".converted";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String MANIFEST_JOURNAL_FILE_NAME = "manifest.journal";
+    public static final int MANIFEST_COMPACTION_THRESHOLD = 1000;
+
+    private static final String SHARD_FILE_FORMAT = "shard-%04d.json";
+    private static final String SHARD_FILE_GLOB = "shard-*.json";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path shardDirectory;
+    private int bucketCount;
+
+    /** Patients as they are currently persisted by identity key, or null if the next save must write every shard. */
+    private Map<String, Patient> persistedPatients;
+    /** Identity keys in the order recorded by the persisted manifest and its journal, or null if it must be written. */
+    private List<String> persistedOrder;
+    private int manifestEntryCount;
+    /** Whether the manifest journal on disk does not belong to the current manifest and must be restarted. */
+    private boolean isManifestJournalStale;
+    private boolean hasIncompleteManifestEntry;
+    /** Whether the data was last read from a data file in another format that must be moved aside. */
+    private boolean isConvertedFromDataFile;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_BUCKET_COUNT);
+    }
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} that spreads patients over {@code bucketCount} shards.
+     * An existing manifest overrides {@code bucketCount}.
+     */
+    public ShardedAddressBookStorage(Path filePath, int bucketCount) {
+        requireNonNull(filePath);
+        assert bucketCount > 0;
+        this.filePath = filePath;
+        this.shardDirectory = getShardDirectory(filePath);
+        this.bucketCount = bucketCount;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getShardDirectory() {
+        return shardDirectory;
+    }
+
+    /**
+     * Returns the directory that holds the shards for the data file at {@code filePath}.
+     */
+    public static Path getShardDirectory(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns true if there is sharded data for the data file at {@code filePath}.
+     */
+    static boolean hasShards(Path filePath) {
+        return Files.exists(getShardDirectory(filePath).resolve(MANIFEST_FILE_NAME));
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Only the data file of this storage is sharded; other files are read as plain json snapshots.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+
+        persistedPatients = null;
+        persistedOrder = null;
+        isConvertedFromDataFile = false;
+        if (Files.exists(filePath)) {
+            logger.info("Converting data file " + filePath + " into shards in " + shardDirectory);
+            Optional<ReadOnlyAddressBook> addressBook = new JournalAddressBookStorage(filePath).readAddressBook();
+            isConvertedFromDataFile = true;
+            return addressBook;
+        }
+        if (!hasShards(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(readShards());
+        } catch (IOException ioe) {
+            logger.warning("Error reading shards from " + shardDirectory + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + shardDirectory + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads the manifest and every shard, and puts the patients in the order of the manifest.
+     */
+    private ReadOnlyAddressBook readShards() throws IOException, IllegalValueException, DataLoadingException {
+        Optional<JsonShardManifest> manifest;
+        try {
+            manifest = JsonUtil.readJsonFile(shardDirectory.resolve(MANIFEST_FILE_NAME), JsonShardManifest.class);
+        } catch (DataLoadingException dle) {
+            throw new IOException("Unreadable manifest", dle);
+        }
+        if (!manifest.isPresent() || manifest.get().getBucketCount() <= 0) {
+            throw new IOException("Invalid manifest in " + shardDirectory);
+        }
+        bucketCount = manifest.get().getBucketCount();
+        Map<String, String> renamedFrom = new HashMap<>();
+        List<String> manifestOrder = readManifestOrder(manifest.get().getPatients(), renamedFrom);
+
+        Map<String, Patient> shardPatients = new LinkedHashMap<>();
+        for (List<Patient> patients : readShardFiles()) {
+            for (Patient patient : patients) {
+                shardPatients.put(patient.getName().getIdentityKey(), patient);
+            }
+        }
+
+        List<Patient> orderedPatients = new ArrayList<>(shardPatients.size());
+        Map<String, Patient> unorderedPatients = new LinkedHashMap<>(shardPatients);
+        for (String key : manifestOrder) {
+            Patient patient = unorderedPatients.remove(key);
+            if (patient == null) {
+                patient = takeRenamedPatient(key, renamedFrom, unorderedPatients);
+            }
+            if (patient != null) {
+                orderedPatients.add(patient);
+            }
+        }
+        // Whatever is left under a renamed name was written again under its new name before a crash.
+        unorderedPatients.keySet().removeAll(renamedFrom.values());
+        orderedPatients.addAll(unorderedPatients.values());
+
+        ReadOnlyAddressBook addressBook = JsonSerializableAddressBook.toAddressBook(orderedPatients);
+        persistedPatients = shardPatients;
+        List<String> order = keysOf(orderedPatients);
+        // A manifest left behind by an interrupted save is rewritten on the next save, as is one whose journal
+        // ends in a partial entry, which cannot be appended to.
+        persistedOrder = order.equals(manifestOrder) && !hasIncompleteManifestEntry ? order : null;
+        logger.info("Read " + orderedPatients.size() + " patients from shards in " + shardDirectory);
+        return addressBook;
+    }
+
+    /**
+     * Removes and returns the patient of {@code unorderedPatients} that was renamed, possibly several times, to
+     * {@code key} in a save that did not get to write it under its new name, or returns null if there is none.
+     */
+    private static Patient takeRenamedPatient(String key, Map<String, String> renamedFrom,
+            Map<String, Patient> unorderedPatients) {
+        String oldKey = renamedFrom.get(key);
+        for (int i = 0; oldKey != null && i < renamedFrom.size(); i++) {
+            Patient patient = unorderedPatients.remove(oldKey);
+            if (patient != null) {
+                return patient;
+            }
+            oldKey = renamedFrom.get(oldKey);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the order of the manifest with the entries of the manifest journal applied, recording the renames
+     * in the journal in {@code renamedFrom}.
+     * A journal that does not belong to the manifest, or that does not fit it, is ignored: the patients it
+     * leaves out of the order are still loaded, after the others.
+     */
+    private List<String> readManifestOrder(List<String> manifestOrder, Map<String, String> renamedFrom)
+            throws IOException {
+        manifestEntryCount = 0;
+        isManifestJournalStale = true;
+        hasIncompleteManifestEntry = false;
+        Path journalFile = shardDirectory.resolve(MANIFEST_JOURNAL_FILE_NAME);
+        if (!Files.exists(journalFile)) {
+            return manifestOrder;
+        }
+
+        List<String> lines = Files.readAllLines(journalFile, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !isJournalOfManifest(lines.get(0))) {
+            logger.warning("Ignoring manifest journal " + journalFile + " as it does not match its manifest");
+            return manifestOrder;
+        }
+
+        List<String> order = new ArrayList<>(manifestOrder);
+        int applied = 0;
+        try {
+            for (int i = 1; i < lines.size(); i++) {
+                JsonShardManifestEntry entry;
+                try {
+                    entry = JsonUtil.fromJsonString(lines.get(i), JsonShardManifestEntry.class);
+                } catch (IOException ioe) {
+                    if (i == lines.size() - 1) {
+                        logger.warning("Skipping incomplete last entry of manifest journal " + journalFile);
+                        hasIncompleteManifestEntry = true;
+                        break;
+                    }
+                    throw ioe;
+                }
+                entry.applyTo(order, renamedFrom);
+                applied++;
+            }
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Ignoring manifest journal " + journalFile + ": " + e);
+            renamedFrom.clear();
+            return manifestOrder;
+        }
+        isManifestJournalStale = false;
+        manifestEntryCount = applied;
+        return order;
+    }
+
+    /**
+     * Returns true if {@code headerLine} is a manifest journal header for the manifest currently on disk.
+     */
+    private boolean isJournalOfManifest(String headerLine) throws IOException {
+        JsonShardManifestEntry header;
+        try {
+            header = JsonUtil.fromJsonString(headerLine, JsonShardManifestEntry.class);
+        } catch (IOException ioe) {
+            return false;
+        }
+        return header.getOperation() == JsonShardManifestEntry.Operation.MANIFEST
+                && header.getChecksum() != null
+                && header.getChecksum() == FileUtil.checksumOf(shardDirectory.resolve(MANIFEST_FILE_NAME));
+    }
+
+    /**
+     * Reads every shard file in parallel, returning their patients in the order of the shard file names.
+     */
+    private List<List<Patient>> readShardFiles() throws IOException, IllegalValueException, DataLoadingException {
+        Set<Path> shardFiles = new TreeSet<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(shardDirectory, SHARD_FILE_GLOB)) {
+            stream.forEach(shardFiles::add);
+        }
+        if (shardFiles.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int threadCount = Math.min(shardFiles.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService readers = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "shard-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Callable<List<Patient>>> tasks = new ArrayList<>();
+            for (Path shardFile : shardFiles) {
+                tasks.add(() -> readShard(shardFile));
+            }
+            List<List<Patient>> shards = new ArrayList<>();
+            for (Future<List<Patient>> shard : readers.invokeAll(tasks)) {
+                shards.add(shard.get());
+            }
+            return shards;
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading shards", ie);
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof IllegalValueException) {
+                throw (IllegalValueException) ee.getCause();
+            }
+            if (ee.getCause() instanceof DataLoadingException) {
+                throw (DataLoadingException) ee.getCause();
+            }
+            throw new IOException("Error reading a shard: " + ee.getCause().getMessage(), ee.getCause());
+        } finally {
+            readers.shutdownNow();
+        }
+    }
+
+    private static List<Patient> readShard(Path shardFile)
+            throws IOException, IllegalValueException, DataLoadingException {
+        try (BufferedReader reader = Files.newBufferedReader(shardFile, StandardCharsets.UTF_8);
+                JsonParser parser = JsonUtil.createParser(reader)) {
+            return JsonSerializableAddressBook.readPatients(parser);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a file other than the data file of this storage writes a plain json snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            new JsonAddressBookStorage(filePath).saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Patient> patients = addressBook.getPatientList();
+        Map<Integer, List<Patient>> buckets = new TreeMap<>();
+        Map<String, Patient> patientsByKey = new HashMap<>();
+        for (Patient patient : patients) {
+            String key = patient.getName().getIdentityKey();
+            buckets.computeIfAbsent(bucketOf(key), unused -> new ArrayList<>()).add(patient);
+            patientsByKey.put(key, patient);
+        }
+
+        Set<Integer> changedBuckets = findChangedBuckets(patientsByKey);
+        Map<Integer, List<Patient>> leavingPatients = findLeavingPatients(patientsByKey);
+        boolean isFullWrite = persistedPatients == null;
+        // Forget the persisted state first so that a failure below forces every shard to be rewritten.
+        persistedPatients = null;
+
+        Files.createDirectories(shardDirectory);
+        List<String> order = keysOf(patients);
+        if (isRenameOnly(order)) {
+            List<JsonShardManifestEntry> renames = diffOrder(persistedOrder, order).get();
+            persistedOrder = null;
+            appendManifestEntries(renames);
+            persistedOrder = order;
+        }
+
+        for (int bucket : changedBuckets) {
+            List<Patient> shardPatients = new ArrayList<>(buckets.getOrDefault(bucket, Collections.emptyList()));
+            shardPatients.addAll(leavingPatients.getOrDefault(bucket, Collections.emptyList()));
+            writeShard(bucket, shardPatients);
+        }
+        for (int bucket : leavingPatients.keySet()) {
+            writeShard(bucket, buckets.getOrDefault(bucket, Collections.emptyList()));
+        }
+        if (isFullWrite) {
+            deleteShardFilesExcept(buckets.keySet());
+        }
+
+        if (!order.equals(persistedOrder)) {
+            saveOrder(order);
+        } else if (manifestEntryCount > MANIFEST_COMPACTION_THRESHOLD) {
+            persistedOrder = null;
+            saveManifest(order);
+        }
+        if (isConvertedFromDataFile) {
+            Path convertedFile = filePath.resolveSibling(filePath.getFileName() + CONVERTED_FILE_SUFFIX);
+            FileUtil.moveAtomically(filePath, convertedFile);
+            Files.deleteIfExists(
+                    filePath.resolveSibling(filePath.getFileName() + JournalAddressBookStorage.JOURNAL_FILE_SUFFIX));
+            isConvertedFromDataFile = false;
+        }
+
+        persistedPatients = patientsByKey;
+        persistedOrder = order;
+        logger.fine("Wrote " + changedBuckets.size() + " changed and " + leavingPatients.size()
+                + " emptied shards to " + shardDirectory);
+    }
+
+    /**
+     * Records {@code order} as the order of the patients, appending to the manifest journal if possible and
+     * rewriting the manifest otherwise.
+     */
+    private void saveOrder(List<String> order) throws IOException {
+        Optional<List<JsonShardManifestEntry>> entries = persistedOrder == null
+                ? Optional.empty()
+                : diffOrder(persistedOrder, order);
+        // Forget the persisted order first so that a failure below forces the manifest to be rewritten.
+        persistedOrder = null;
+
+        if (!entries.isPresent() || manifestEntryCount + entries.get().size() > MANIFEST_COMPACTION_THRESHOLD) {
+            saveManifest(order);
+            return;
+        }
+        appendManifestEntries(entries.get());
+    }
+
+    /**
+     * Rewrites the manifest with {@code order}, and restarts its journal.
+     */
+    private void saveManifest(List<String> order) throws IOException {
+        Path manifestFile = shardDirectory.resolve(MANIFEST_FILE_NAME);
+        JsonUtil.saveJsonFile(new JsonShardManifest(bucketCount, order), manifestFile);
+        startManifestJournal();
+        manifestEntryCount = 0;
+    }
+
+    /**
+     * Appends {@code entries} to the manifest journal, restarting the journal first if it is stale.
+     */
+    private void appendManifestEntries(List<JsonShardManifestEntry> entries) throws IOException {
+        if (isManifestJournalStale) {
+            startManifestJournal();
+        }
+
+        try (BufferedWriter writer = Files.newBufferedWriter(shardDirectory.resolve(MANIFEST_JOURNAL_FILE_NAME),
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (JsonShardManifestEntry entry : entries) {
+                writer.write(JsonUtil.toCompactJsonString(entry));
+                writer.newLine();
+            }
+        }
+        manifestEntryCount += entries.size();
+    }
+
+    /**
+     * Returns true if {@code order} only renames patients in the persisted order.
+     */
+    private boolean isRenameOnly(List<String> order) {
+        return persistedOrder != null && persistedOrder.size() == order.size() && !persistedOrder.equals(order);
+    }
+
+    /**
+     * Replaces the manifest journal with one that holds only the header for the manifest currently on disk.
+     */
+    private void startManifestJournal() throws IOException {
+        long checksum = FileUtil.checksumOf(shardDirectory.resolve(MANIFEST_FILE_NAME));
+        String header = JsonUtil.toCompactJsonString(JsonShardManifestEntry.manifest(checksum));
+        byte[] headerLine = (header + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+        Files.write(shardDirectory.resolve(MANIFEST_JOURNAL_FILE_NAME), headerLine);
+        isManifestJournalStale = false;
+    }
+
+    /**
+     * Returns the manifest journal entries that turn {@code before} into {@code after}, or
+     * {@code Optional.empty()} if the change is not a sequence of in-place renames, a single append or a single
+     * removal.
+     */
+    private static Optional<List<JsonShardManifestEntry>> diffOrder(List<String> before, List<String> after) {
+        List<JsonShardManifestEntry> entries = new ArrayList<>();
+
+        if (after.size() == before.size()) {
+            for (int i = 0; i < after.size(); i++) {
+                if (!before.get(i).equals(after.get(i))) {
+                    entries.add(JsonShardManifestEntry.renamePatient(i, after.get(i)));
+                }
+            }
+            return Optional.of(entries);
+        }
+
+        if (after.size() == before.size() + 1) {
+            if (!after.subList(0, before.size()).equals(before)) {
+                return Optional.empty();
+            }
+            entries.add(JsonShardManifestEntry.addPatient(after.get(before.size())));
+            return Optional.of(entries);
+        }
+
+        if (after.size() == before.size() - 1) {
+            int removedIndex = 0;
+            while (removedIndex < after.size() && before.get(removedIndex).equals(after.get(removedIndex))) {
+                removedIndex++;
+            }
+            if (!after.subList(removedIndex, after.size()).equals(before.subList(removedIndex + 1, before.size()))) {
+                return Optional.empty();
+            }
+            entries.add(JsonShardManifestEntry.deletePatient(removedIndex));
+            return Optional.of(entries);
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the buckets holding a patient that was added or edited since the last save,
+     * or every non-empty bucket if nothing is known to be persisted.
+     */
+    private Set<Integer> findChangedBuckets(Map<String, Patient> patientsByKey) {
+        Set<Integer> changedBuckets = new TreeSet<>();
+        for (Map.Entry<String, Patient> entry : patientsByKey.entrySet()) {
+            Patient persisted = persistedPatients == null ? null : persistedPatients.get(entry.getKey());
+            if (persisted == null || !isUnchanged(persisted, entry.getValue())) {
+                changedBuckets.add(bucketOf(entry.getKey()));
+            }
+        }
+        return changedBuckets;
+    }
+
+    /**
+     * Returns the persisted patients that were removed or renamed since the last save, by bucket.
+     */
+    private Map<Integer, List<Patient>> findLeavingPatients(Map<String, Patient> patientsByKey) {
+        Map<Integer, List<Patient>> leavingPatients = new TreeMap<>();
+        if (persistedPatients == null) {
+            return leavingPatients;
+        }
+        for (Map.Entry<String, Patient> entry : persistedPatients.entrySet()) {
+            if (!patientsByKey.containsKey(entry.getKey())) {
+                leavingPatients.computeIfAbsent(bucketOf(entry.getKey()), unused -> new ArrayList<>())
+                        .add(entry.getValue());
+            }
+        }
+        return leavingPatients;
+    }
+
+    /**
+     * Replaces the shard of {@code bucket} with {@code patients}, or deletes it if there are none.
+     */
+    private void writeShard(int bucket, List<Patient> patients) throws IOException {
+        Path shardFile = getShardFile(bucket);
+        if (patients.isEmpty()) {
+            Files.deleteIfExists(shardFile);
+            return;
+        }
+        FileUtil.writeAtomically(shardFile, out -> {
+            try (JsonGenerator generator = JsonUtil.createPrettyGenerator(
+                    new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+                JsonSerializableAddressBook.writePatients(patients, generator);
+            }
+        });
+    }
+
+    /**
+     * Deletes the shard files of every bucket but {@code buckets}, which may be left over from earlier data.
+     */
+    private void deleteShardFilesExcept(Set<Integer> buckets) throws IOException {
+        Set<Path> keptFiles = new HashSet<>();
+        for (int bucket : buckets) {
+            keptFiles.add(getShardFile(bucket));
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(shardDirectory, SHARD_FILE_GLOB)) {
+            for (Path shardFile : stream) {
+                if (!keptFiles.contains(shardFile)) {
+                    Files.delete(shardFile);
+                }
+            }
+        }
+    }
+
+    private Path getShardFile(int bucket) {
+        return shardDirectory.resolve(String.format(SHARD_FILE_FORMAT, bucket));
+    }
+
+    private int bucketOf(String identityKey) {
+        return Math.floorMod(identityKey.hashCode(), bucketCount);
+    }
+
+    private static List<String> keysOf(List<Patient> patients) {
+        List<String> keys = new ArrayList<>(patients.size());
+        for (Patient patient : patients) {
+            keys.add(patient.getName().getIdentityKey());
+        }
+        return keys;
+    }
+
+    private static boolean isUnchanged(Patient before, Patient after) {
+        return before == after || before.equals(after);
+    }
+}
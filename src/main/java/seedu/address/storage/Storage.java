@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,16 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Blocks until every address book save requested so far has been written.
+     * @throws IOException if the pending data could not be written.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Sets the listener that is told about saves that fail after {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * has already returned.
+     */
+    void setWriteFailureListener(Consumer<IOException> listener);
+
 }
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -75,4 +76,16 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    /**
+     * Does nothing, as saves are written before {@link #saveAddressBook(ReadOnlyAddressBook)} returns.
+     */
+    @Override
+    public void flush() {}
+
+    /**
+     * Does nothing, as save failures are thrown by {@link #saveAddressBook(ReadOnlyAddressBook)} itself.
+     */
+    @Override
+    public void setWriteFailureListener(Consumer<IOException> listener) {}
+
 }
@@ -7,9 +7,6 @@ import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import javafx.scene.text.Text;
-import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -57,14 +54,22 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextArea.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        // The command runs in the background, so the box is cleared for the next command straight away
+        commandExecutor.execute(commandText);
+        commandTextArea.setText("");
     }
 
+    /**
+     * Indicates that {@code commandText} failed, and puts it back in the command box to be corrected,
+     * unless the user has already started typing another command.
+     */
+    public void indicateCommandFailure(String commandText) {
+        if (commandTextArea.getText().isEmpty()) {
+            commandTextArea.setText(commandText);
+            commandTextArea.end();
+        }
+        setStyleToIndicateCommandFailure();
+    }
 
     /**
      * Dynamically adjust the height of the command box based on the content.
@@ -119,11 +124,11 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Submits the command to be executed, without waiting for its result.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.CommandEngine
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        void execute(String commandText);
     }
 
 }
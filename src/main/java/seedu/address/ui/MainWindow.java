@@ -3,6 +3,7 @@ package seedu.address.ui;
 import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -14,12 +15,11 @@ import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandEngine;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.FilterNoteCommand;
 import seedu.address.logic.commands.ViewNotesCommand;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.note.Note;
 import seedu.address.model.patient.Patient;
 
@@ -35,11 +35,13 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandEngine commandEngine;
 
     // Independent Ui parts residing in this Ui container
     private PatientListPanel patientListPanel;
     private NotesDisplayPanel notesDisplayPanel;
     private ResultDisplay resultDisplay;
+    private CommandBox commandBox;
     private HelpWindow helpWindow;
 
     @FXML
@@ -64,14 +66,16 @@ public class MainWindow extends UiPart<Stage> {
     private VBox topContainer;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, which runs commands through
+     * {@code commandEngine}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, CommandEngine commandEngine) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandEngine = commandEngine;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -128,11 +132,12 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        patientListPanel = new PatientListPanel(logic.getFilteredPatientList());
+        patientListPanel = new PatientListPanel(commandEngine.getDisplayedPatientList());
         patientListPanelPlaceholder.getChildren().add(patientListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureListener(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         notesDisplayPanel = new NotesDisplayPanel();
         notesDisplayPanelPlaceholder.getChildren().add(notesDisplayPanel.getRoot());
@@ -140,7 +145,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         // Ensure the command box can grow dynamically
@@ -192,40 +197,53 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Submits the command to run in the background; its result is shown once it has run.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-
-            // Check if this is a ViewNotesCommand result
-            if (commandText.trim().toLowerCase().startsWith(ViewNotesCommand.COMMAND_WORD)) {
-                handleViewNotesCommand(commandResult, commandText);
-            } else if (commandText.trim().toLowerCase().startsWith(FilterNoteCommand.COMMAND_WORD)) {
-                handleFilterNoteCommand(commandResult, commandText);
-            } else {
-                // Reset notes panel for non-viewnotes commands
-                notesDisplayPanel.reset();
-                // Display regular feedback in the result display
-                resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+    private void executeCommand(String commandText) {
+        commandEngine.submit(commandText, new CommandEngine.ResultHandler() {
+            @Override
+            public void onSuccess(String commandText, CommandResult commandResult) {
+                handleCommandResult(commandResult, commandText);
             }
 
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+            @Override
+            public void onFailure(String commandText, Exception exception) {
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(exception.getMessage());
+                commandBox.indicateCommandFailure(commandText);
             }
+        });
+    }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+    /**
+     * Shows the result of a command that ran successfully.
+     */
+    private void handleCommandResult(CommandResult commandResult, String commandText) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+
+        // Check if this is a ViewNotesCommand result
+        if (commandText.trim().toLowerCase().startsWith(ViewNotesCommand.COMMAND_WORD)) {
+            handleViewNotesCommand(commandResult, commandText);
+        } else if (commandText.trim().toLowerCase().startsWith(FilterNoteCommand.COMMAND_WORD)) {
+            handleFilterNoteCommand(commandResult, commandText);
+        } else if (commandResult.getNoteSearchHits() != null) {
+            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            notesDisplayPanel.displaySearchHits(commandResult.getNoteSearchHits());
+        } else {
+            // Reset notes panel for non-viewnotes commands
+            notesDisplayPanel.reset();
+            // Display regular feedback in the result display
+            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+        }
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.isExit()) {
+            handleExit();
         }
     }
 
@@ -258,8 +276,8 @@ public class MainWindow extends UiPart<Stage> {
             // Handle single patient view
             try {
                 int index = Integer.parseInt(parts[1]) - 1; // Convert to zero-based index
-                if (index >= 0 && index < logic.getFilteredPatientList().size()) {
-                    Patient patient = logic.getFilteredPatientList().get(index);
+                if (index >= 0 && index < patientListPanel.getPatientListSize()) {
+                    Patient patient = patientListPanel.getPatientAtIndex(index);
                     notesDisplayPanel.displayNotes(patient);
                 }
             } catch (NumberFormatException e) {
@@ -290,8 +308,8 @@ public class MainWindow extends UiPart<Stage> {
             }
 
             int index = Integer.parseInt(parts[1]) - 1; // Convert to zero-based index
-            if (index >= 0 && index < logic.getFilteredPatientList().size()) {
-                Patient patient = logic.getFilteredPatientList().get(index);
+            if (index >= 0 && index < patientListPanel.getPatientListSize()) {
+                Patient patient = patientListPanel.getPatientAtIndex(index);
                 List<Note> matchingNotes = commandResult.getNotesList();
                 notesDisplayPanel.displayNotes(patient, matchingNotes);
             }
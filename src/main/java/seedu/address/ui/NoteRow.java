@@ -0,0 +1,141 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.note.Note;
+import seedu.address.model.note.NoteSearchHit;
+import seedu.address.model.patient.Patient;
+
+/**
+ * A row of the notes panel: the header of a patient's notes, a numbered note, or a message shown in place of notes.
+ * The panel's notes are flattened into rows so that only the rows on screen need to be drawn.
+ * Guarantees: immutable.
+ */
+class NoteRow {
+
+    /**
+     * The kinds of rows.
+     */
+    enum Kind {
+        HEADER, NOTE, MESSAGE
+    }
+
+    private final Kind kind;
+    private final String text;
+    private final Note note;
+    private final int noteNumber;
+    private final String styleClass;
+
+    private NoteRow(Kind kind, String text, Note note, int noteNumber, String styleClass) {
+        this.kind = kind;
+        this.text = text;
+        this.note = note;
+        this.noteNumber = noteNumber;
+        this.styleClass = styleClass;
+    }
+
+    /**
+     * Returns a header row for the notes of {@code patient}.
+     */
+    static NoteRow header(Patient patient) {
+        return new NoteRow(Kind.HEADER, patient.getName().fullName, null, 0, null);
+    }
+
+    /**
+     * Returns a row showing {@code note} as note number {@code noteNumber}.
+     */
+    static NoteRow note(Note note, int noteNumber) {
+        requireNonNull(note);
+        return new NoteRow(Kind.NOTE, note.getTitle(), note, noteNumber, null);
+    }
+
+    /**
+     * Returns a row showing {@code message}, styled with {@code styleClass}.
+     */
+    static NoteRow message(String message, String styleClass) {
+        requireNonNull(message);
+        requireNonNull(styleClass);
+        return new NoteRow(Kind.MESSAGE, message, null, 0, styleClass);
+    }
+
+    /**
+     * Returns the rows for the notes of every patient in {@code patients}, each patient's under a header.
+     * Patients without notes are left out, and notes are numbered across all patients.
+     */
+    static List<NoteRow> forAllNotes(List<Patient> patients, NoteRow ifEmpty) {
+        List<NoteRow> rows = new ArrayList<>();
+        int noteNumber = 1;
+        for (Patient patient : patients) {
+            Collection<Note> notes = patient.getNotes();
+            if (notes.isEmpty()) {
+                continue;
+            }
+            rows.add(header(patient));
+            for (Note note : notes) {
+                rows.add(note(note, noteNumber++));
+            }
+        }
+        return rows.isEmpty() ? List.of(ifEmpty) : rows;
+    }
+
+    /**
+     * Returns the rows for note search {@code hits}, in order.
+     * Consecutive hits of the same patient are shown under a single header.
+     */
+    static List<NoteRow> forSearchHits(List<NoteSearchHit> hits, NoteRow ifEmpty) {
+        List<NoteRow> rows = new ArrayList<>();
+        Patient previousPatient = null;
+        int noteNumber = 1;
+        for (NoteSearchHit hit : hits) {
+            if (hit.getPatient() != previousPatient) {
+                rows.add(header(hit.getPatient()));
+                previousPatient = hit.getPatient();
+            }
+            rows.add(note(hit.getNote(), noteNumber++));
+        }
+        return rows.isEmpty() ? List.of(ifEmpty) : rows;
+    }
+
+    /**
+     * Returns the rows for {@code notes} of a single patient, without a header.
+     */
+    static List<NoteRow> forNotes(Collection<Note> notes, NoteRow ifEmpty) {
+        List<NoteRow> rows = new ArrayList<>(notes.size());
+        int noteNumber = 1;
+        for (Note note : notes) {
+            rows.add(note(note, noteNumber++));
+        }
+        return rows.isEmpty() ? List.of(ifEmpty) : rows;
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the patient's name for a header, the note's title for a note, or the message for a message.
+     */
+    String getText() {
+        return text;
+    }
+
+    Optional<Note> getNote() {
+        return Optional.ofNullable(note);
+    }
+
+    int getNoteNumber() {
+        return noteNumber;
+    }
+
+    /**
+     * Returns the style class of a message row's label, or null for other rows.
+     */
+    String getStyleClass() {
+        return styleClass;
+    }
+}
@@ -2,33 +2,43 @@ package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import seedu.address.model.note.Note;
+import seedu.address.model.note.NoteSearchHit;
 import seedu.address.model.patient.Patient;
 
 /**
  * Panel that displays notes for a selected patient or all patients.
+ * The notes are shown in a {@code ListView} of {@code NoteRow}s, so only the rows on screen are drawn, and their
+ * cells are reused while scrolling.
  */
 public class NotesDisplayPanel extends UiPart<Region> {
 
     private static final String FXML = "NotesDisplayPanel.fxml";
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm");
 
     @FXML
     private Label patientNameLabel;
 
     @FXML
-    private VBox notesContainer;
+    private ListView<NoteRow> notesListView;
 
     /**
      * Creates a {@code NotesDisplayPanel} with empty content.
      */
     public NotesDisplayPanel() {
         super(FXML);
+        notesListView.setCellFactory(listView -> new NoteRowCell());
+        notesListView.setFocusTraversable(false);
         reset();
     }
 
@@ -37,7 +47,7 @@ public class NotesDisplayPanel extends UiPart<Region> {
      */
     public void reset() {
         patientNameLabel.setText("No patient selected");
-        notesContainer.getChildren().clear();
+        notesListView.getItems().clear();
     }
 
     /**
@@ -48,37 +58,19 @@ public class NotesDisplayPanel extends UiPart<Region> {
     public void displayAllNotes(List<Patient> patients) {
         requireNonNull(patients);
         patientNameLabel.setText("Notes for all patients");
-        notesContainer.getChildren().clear();
-
-        boolean hasAnyNotes = false;
-        int totalNoteNumber = 1;
-
-        for (Patient patient : patients) {
-            List<Note> patientNotes = patient.getNotes().stream().toList();
-            if (!patientNotes.isEmpty()) {
-                hasAnyNotes = true;
-
-                // Add patient header in a box
-                VBox patientHeaderBox = new VBox();
-                patientHeaderBox.getStyleClass().add("patient-header-box");
-                Label patientHeader = new Label(patient.getName().fullName);
-                patientHeader.getStyleClass().add("patient-section-header");
-                patientHeaderBox.getChildren().add(patientHeader);
-                notesContainer.getChildren().add(patientHeaderBox);
-
-                // Add patient's notes
-                for (Note note : patientNotes) {
-                    VBox noteBox = createNoteBox(note, totalNoteNumber++);
-                    notesContainer.getChildren().add(noteBox);
-                }
-            }
-        }
+        showRows(NoteRow.forAllNotes(patients, NoteRow.message("No notes found for any patients.", "note-content")));
+    }
 
-        if (!hasAnyNotes) {
-            Label noNotesLabel = new Label("No notes found for any patients.");
-            noNotesLabel.getStyleClass().add("note-content");
-            notesContainer.getChildren().add(noNotesLabel);
-        }
+    /**
+     * Updates the panel with the results of a note search, best match first.
+     * Consecutive hits of the same patient are shown under a single patient header.
+     *
+     * @param hits The notes that matched the search, in ranked order.
+     */
+    public void displaySearchHits(List<NoteSearchHit> hits) {
+        requireNonNull(hits);
+        patientNameLabel.setText("Note search results");
+        showRows(NoteRow.forSearchHits(hits, NoteRow.message("No notes match the search.", "note-content")));
     }
 
     /**
@@ -89,22 +81,8 @@ public class NotesDisplayPanel extends UiPart<Region> {
     public void displayNotes(Patient patient) {
         requireNonNull(patient);
         patientNameLabel.setText("Notes for " + patient.getName().fullName);
-
-        notesContainer.getChildren().clear();
-        List<Note> notesList = patient.getNotes().stream().toList();
-
-        if (notesList.isEmpty()) {
-            Label noNotesLabel = new Label("This patient has no notes.");
-            noNotesLabel.getStyleClass().add("viewnotes-content");
-            notesContainer.getChildren().add(noNotesLabel);
-            return;
-        }
-
-        int noteNumber = 1;
-        for (Note note : notesList) {
-            VBox noteBox = createNoteBox(note, noteNumber++);
-            notesContainer.getChildren().add(noteBox);
-        }
+        showRows(NoteRow.forNotes(patient.getNotes(),
+                NoteRow.message("This patient has no notes.", "viewnotes-content")));
     }
 
     /**
@@ -116,68 +94,83 @@ public class NotesDisplayPanel extends UiPart<Region> {
     public void displayNotes(Patient patient, List<Note> matchingNote) {
         requireNonNull(patient);
         patientNameLabel.setText("Notes for " + patient.getName().fullName);
+        showRows(NoteRow.forNotes(matchingNote,
+                NoteRow.message("This patient has no notes.", "filternote-content")));
+    }
 
-        notesContainer.getChildren().clear();
-
-        if (matchingNote.isEmpty()) {
-            Label noNotesLabel = new Label("This patient has no notes.");
-            noNotesLabel.getStyleClass().add("filternote-content");
-            notesContainer.getChildren().add(noNotesLabel);
-            return;
-        }
-
-        int noteNumber = 1;
-        for (Note note : matchingNote) {
-            VBox noteBox = createNoteBox(note, noteNumber++);
-            notesContainer.getChildren().add(noteBox);
-        }
+    private void showRows(List<NoteRow> rows) {
+        notesListView.getItems().setAll(rows);
+        notesListView.scrollTo(0);
     }
 
     /**
-     * Creates a formatted box for displaying a single note.
-     *
-     * @param note       The note to display.
-     * @param noteNumber The sequence number of this note.
-     * @return A VBox containing the formatted note.
+     * Custom {@code ListCell} that displays a {@code NoteRow}.
+     * Each cell builds the nodes for every kind of row once, and only updates their text when it is reused.
      */
-    private VBox createNoteBox(Note note, int noteNumber) {
-        VBox noteBox = new VBox(8); // Spacing between title box and content
-        noteBox.getStyleClass().add("note-item");
-
-        // Create a title container
-        VBox titleBox = new VBox();
-        titleBox.getStyleClass().add("note-title-box");
-
-        // Create a horizontal box for number and title
-        javafx.scene.layout.HBox titleContainer = new javafx.scene.layout.HBox(10); // 10 pixels spacing
-
-        // Note number
-        Label numberLabel = new Label("#" + noteNumber);
-        numberLabel.getStyleClass().add("note-number");
-
-        // Title with pink styling
-        Label titleLabel = new Label(note.getTitle());
-        titleLabel.getStyleClass().add("note-title");
-
-        titleContainer.getChildren().addAll(numberLabel, titleLabel);
-        titleBox.getChildren().add(titleContainer);
-
-        // Content
-        Label contentLabel = new Label(note.getContent());
-        contentLabel.getStyleClass().add("note-content");
-        contentLabel.setWrapText(true);
-
-        // Date information in its own container
-        VBox dateBox = new VBox();
-        dateBox.getStyleClass().add("note-date-box");
-        String formattedDateTime = note.getDateTimeCreated().format(
-                java.time.format.DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm"));
-        Label dateLabel = new Label("Created: " + formattedDateTime);
-        dateLabel.getStyleClass().add("note-date");
-        dateBox.getChildren().add(dateLabel);
-
-        // Add all components to the note box
-        noteBox.getChildren().addAll(titleBox, contentLabel, dateBox);
-        return noteBox;
+    class NoteRowCell extends ListCell<NoteRow> {
+
+        private final VBox headerBox = new VBox();
+        private final Label headerLabel = new Label();
+
+        private final VBox noteBox = new VBox(8); // Spacing between title box and content
+        private final Label numberLabel = new Label();
+        private final Label titleLabel = new Label();
+        private final Label contentLabel = new Label();
+        private final Label dateLabel = new Label();
+
+        private final Label messageLabel = new Label();
+
+        NoteRowCell() {
+            // Let the cell take the width of the list, so that long note contents wrap instead of scrolling
+            setPrefWidth(0);
+
+            headerBox.getStyleClass().add("patient-header-box");
+            headerLabel.getStyleClass().add("patient-section-header");
+            headerBox.getChildren().add(headerLabel);
+
+            noteBox.getStyleClass().add("note-item");
+            VBox titleBox = new VBox();
+            titleBox.getStyleClass().add("note-title-box");
+            numberLabel.getStyleClass().add("note-number");
+            titleLabel.getStyleClass().add("note-title");
+            titleBox.getChildren().add(new HBox(10, numberLabel, titleLabel)); // 10 pixels spacing
+            contentLabel.getStyleClass().add("note-content");
+            contentLabel.setWrapText(true);
+            VBox dateBox = new VBox(dateLabel);
+            dateBox.getStyleClass().add("note-date-box");
+            dateLabel.getStyleClass().add("note-date");
+            noteBox.getChildren().addAll(titleBox, contentLabel, dateBox);
+        }
+
+        @Override
+        protected void updateItem(NoteRow row, boolean empty) {
+            super.updateItem(row, empty);
+            setText(null);
+
+            if (empty || row == null) {
+                setGraphic(null);
+                return;
+            }
+
+            switch (row.getKind()) {
+            case HEADER:
+                headerLabel.setText(row.getText());
+                setGraphic(headerBox);
+                break;
+            case NOTE:
+                Note note = row.getNote().get();
+                numberLabel.setText("#" + row.getNoteNumber());
+                titleLabel.setText(note.getTitle());
+                contentLabel.setText(note.getContent());
+                dateLabel.setText("Created: " + note.getDateTimeCreated().format(DATE_TIME_FORMATTER));
+                setGraphic(noteBox);
+                break;
+            default:
+                messageLabel.setText(row.getText());
+                messageLabel.getStyleClass().setAll(row.getStyleClass());
+                setGraphic(messageLabel);
+                break;
+            }
+        }
     }
 }
@@ -1,6 +1,14 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
@@ -9,10 +17,13 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
+import seedu.address.model.note.Note;
 import seedu.address.model.patient.Patient;
+import seedu.address.model.tag.Tag;
 
 /**
  * A UI component that displays information of a {@code Patient}.
+ * A card can be rebound to another patient, so that list cells can reuse their card while scrolling.
  */
 public class PatientCard extends UiPart<Region> {
 
@@ -26,7 +37,19 @@ public class PatientCard extends UiPart<Region> {
         "#A17C6B" // warm brown
     };
 
-    public final Patient patient;
+    private static final String[] TAG_STYLES = Arrays.stream(TAG_COLORS)
+            .map(color -> String.format("-fx-background-color: %s; -fx-text-fill: #EAD7D1;", color))
+            .toArray(String[]::new);
+
+    private static final DateTimeFormatter NOTE_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    private Patient patient;
+    private int displayedIndex;
+
+    /** Tag labels created so far, of which the first ones are shown; they are reused when the card is rebound. */
+    private final List<Label> tagLabels = new ArrayList<>();
+    /** Note boxes created so far, of which the first ones are shown; they are reused when the card is rebound. */
+    private final List<NoteBox> noteBoxes = new ArrayList<>();
 
     @FXML
     private HBox cardPane;
@@ -44,6 +67,17 @@ public class PatientCard extends UiPart<Region> {
     @FXML
     private VBox notes;
 
+    /**
+     * Creates a {@code PatientCard} with no patient, to be bound to one with {@link #setPatient(Patient, int)}.
+     */
+    public PatientCard() {
+        super(FXML);
+        // Display notes in a more structured way
+        // Make sure the notes container in your FXML has the notes-container style
+        // class
+        notes.getStyleClass().add("notes-container");
+    }
+
     /**
      * Creates a {@code PatientCard} with the given {@code Patient} and index to
      * display.
@@ -52,66 +86,109 @@ public class PatientCard extends UiPart<Region> {
      * @param displayedIndex The index of the patient in the list.
      */
     public PatientCard(Patient patient, int displayedIndex) {
-        super(FXML);
-        this.patient = patient;
+        this();
+        setPatient(patient, displayedIndex);
+    }
+
+    public Patient getPatient() {
+        return patient;
+    }
+
+    /**
+     * Shows {@code patient} at {@code displayedIndex} on this card, reusing the card's labels.
+     * Does nothing if the card already shows the same patient at the same index.
+     *
+     * @param patient        The patient whose details should be displayed.
+     * @param displayedIndex The index of the patient in the list.
+     */
+    public void setPatient(Patient patient, int displayedIndex) {
+        requireNonNull(patient);
+        if (patient == this.patient && displayedIndex == this.displayedIndex) {
+            return;
+        }
+        this.displayedIndex = displayedIndex;
         id.setText(displayedIndex + ". ");
+        if (patient == this.patient) {
+            return;
+        }
+        this.patient = patient;
         name.setText(patient.getName().fullName);
         phone.setText(patient.getPhone().value);
         address.setText(patient.getAddress().value);
+        showTags(patient.getTags());
+        showNotes(patient.getNotes());
+    }
 
-        // Display tags with dynamic colors only for multiple tags
-        var patientTags = patient.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .collect(Collectors.toList());
+    /**
+     * Returns the style of the tag at {@code tagIndex} among {@code tagCount} sorted tags.
+     * Multiple tags get different colors, while a single tag gets the default color.
+     */
+    static String getTagStyle(int tagIndex, int tagCount) {
+        return tagCount > 1 ? TAG_STYLES[tagIndex % TAG_STYLES.length] : TAG_STYLES[0];
+    }
 
-        boolean hasMultipleTags = patientTags.size() > 1;
+    private void showTags(Set<Tag> patientTags) {
+        List<Tag> sortedTags = new ArrayList<>(patientTags);
+        sortedTags.sort(Comparator.comparing(tag -> tag.tagName));
 
-        for (int i = 0; i < patientTags.size(); i++) {
-            var tag = patientTags.get(i);
-            Label tagLabel = new Label(tag.tagName);
+        while (tagLabels.size() < sortedTags.size()) {
+            Label tagLabel = new Label();
             tagLabel.getStyleClass().add("label");
+            tagLabels.add(tagLabel);
+        }
+        for (int i = 0; i < sortedTags.size(); i++) {
+            Label tagLabel = tagLabels.get(i);
+            tagLabel.setText(sortedTags.get(i).tagName);
+            tagLabel.setStyle(getTagStyle(i, sortedTags.size()));
+        }
+        if (tags.getChildren().size() != sortedTags.size()) {
+            tags.getChildren().setAll(tagLabels.subList(0, sortedTags.size()));
+        }
+    }
 
-            // If patient has multiple tags, use different colors
-            String tagColor;
-            if (hasMultipleTags) {
-                tagColor = TAG_COLORS[i % TAG_COLORS.length];
-            } else {
-                // Single tag - use default color
-                tagColor = "#7B506F";
+    /**
+     * Shows {@code patientNotes}, which are already ordered by the time they were created.
+     */
+    private void showNotes(Collection<Note> patientNotes) {
+        int i = 0;
+        for (Note note : patientNotes) {
+            if (i == noteBoxes.size()) {
+                noteBoxes.add(new NoteBox());
             }
-
-            tagLabel.setStyle(String.format("-fx-background-color: %s; -fx-text-fill: #EAD7D1;", tagColor));
-            tags.getChildren().add(tagLabel);
+            noteBoxes.get(i++).setNote(note);
         }
+        if (notes.getChildren().size() != i) {
+            notes.getChildren().setAll(noteBoxes.subList(0, i).stream()
+                    .map(noteBox -> noteBox.box)
+                    .collect(Collectors.toList()));
+        }
+    }
 
-        // Display notes in a more structured way
-        // Make sure the notes container in your FXML has the notes-container style
-        // class
-        notes.getStyleClass().add("notes-container");
+    /**
+     * The title and creation date of a note on the card.
+     */
+    private static class NoteBox {
+        private final VBox box = new VBox();
+        private final Label titleLabel = new Label();
+        private final Label dateLabel = new Label();
+        private Note note;
+
+        NoteBox() {
+            box.getStyleClass().add("note-box");
+            titleLabel.getStyleClass().add("note-title");
+            titleLabel.setWrapText(true);
+            dateLabel.getStyleClass().add("note-date");
+            box.getChildren().addAll(titleLabel, dateLabel);
+        }
 
-        patient.getNotes().stream()
-                .sorted(Comparator.comparing(note -> note.getDateTimeCreated()))
-                .forEach(note -> {
-                    VBox noteBox = new VBox();
-                    noteBox.getStyleClass().add("note-box");
-
-                    // Create a label with the title and add style
-                    Label titleLabel = new Label(note.getTitle());
-                    titleLabel.getStyleClass().add("note-title");
-                    titleLabel.setWrapText(true);
-
-                    // Format the date as DD-MM-YYYY
-                    String formattedDate = note.getDateTimeCreated().format(
-                            java.time.format.DateTimeFormatter.ofPattern("dd-MM-yyyy"));
-                    Label dateLabel = new Label(formattedDate);
-                    dateLabel.getStyleClass().add("note-date");
-
-                    // Add the title and date directly to the noteBox
-                    noteBox.getChildren().addAll(titleLabel, dateLabel);
-
-                    // Add the noteBox directly to the notes VBox
-                    notes.getChildren().add(noteBox);
-                });
+        void setNote(Note note) {
+            if (note == this.note) {
+                return;
+            }
+            this.note = note;
+            titleLabel.setText(note.getTitle());
+            dateLabel.setText(note.getDateTimeCreated().format(NOTE_DATE_FORMATTER));
+        }
     }
 
     /**
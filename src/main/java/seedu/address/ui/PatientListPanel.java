@@ -52,8 +52,11 @@ public class PatientListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Patient} using a {@code PatientCard}.
+     * The cell creates its card once and rebinds it to each patient it shows, as cells are reused while scrolling.
      */
     class PatientListViewCell extends ListCell<Patient> {
+        private PatientCard patientCard;
+
         @Override
         protected void updateItem(Patient patient, boolean empty) {
             super.updateItem(patient, empty);
@@ -62,7 +65,11 @@ public class PatientListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PatientCard(patient, getIndex() + 1).getRoot());
+                if (patientCard == null) {
+                    patientCard = new PatientCard();
+                }
+                patientCard.setPatient(patient, getIndex() + 1);
+                setGraphic(patientCard.getRoot());
             }
         }
     }
@@ -11,6 +11,7 @@ import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandEngine;
 import seedu.address.logic.Logic;
 
 /**
@@ -24,13 +25,15 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/neurosync-logo-new.png";
 
     private Logic logic;
+    private CommandEngine commandEngine;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, which runs commands through {@code commandEngine}.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, CommandEngine commandEngine) {
         this.logic = logic;
+        this.commandEngine = commandEngine;
     }
 
     @Override
@@ -41,7 +44,7 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, commandEngine);
             mainWindow.show(); // This should be called before creating other UI parts
             mainWindow.fillInnerParts();
         } catch (Throwable e) {
@@ -39,10 +39,49 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validFlightRecordingPath_success() {
+        parametersStub.namedParameters.put("record", "session.jfr");
+        expected.setFlightRecordingPath(Paths.get("session.jfr"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidFlightRecordingPath_notRecorded() {
+        parametersStub.namedParameters.put("record", "a\0");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_validScript_success() {
+        parametersStub.namedParameters.put("script", "nightly.txt");
+        parametersStub.namedParameters.put("save-every", "100");
+        expected.setScriptPath(Paths.get("nightly.txt"));
+        expected.setCommandsPerSave(100);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidScript_guiStarted() {
+        parametersStub.namedParameters.put("script", "a\0");
+        parametersStub.namedParameters.put("save-every", "0");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_rawArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setScriptPath(Paths.get("-"));
+        assertEquals(expected, AppParameters.parse("--config=config.json", "--script=-", "--", "--=x", "unnamed"));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", flightRecordingPath=" + appParameters.getFlightRecordingPath()
+                + ", scriptPath=" + appParameters.getScriptPath()
+                + ", commandsPerSave=" + appParameters.getCommandsPerSave() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +105,21 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different flight recording path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setFlightRecordingPath(Paths.get("session.jfr"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setScriptPath(Paths.get("nightly.txt"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different commands per save -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setCommandsPerSave(100);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
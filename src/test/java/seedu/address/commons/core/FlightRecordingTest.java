@@ -0,0 +1,76 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class FlightRecordingTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void start_nullDestination_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> FlightRecording.start(null));
+    }
+
+    @Test
+    public void stop_afterCommands_writesAppEvents() throws Exception {
+        Path recordingFile = testFolder.resolve("session.jfr");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json"));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json")));
+        Logic logic = new LogicManager(new ModelManager(getTypicalAddressBook(), new UserPrefs()), storage);
+
+        FlightRecording recording = FlightRecording.start(recordingFile);
+        logic.execute("delete 1");
+        storage.readAddressBook();
+        recording.stop();
+
+        assertTrue(Files.exists(recordingFile));
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+                .filter(event -> event.getEventType().getName().startsWith("seedu.address."))
+                .collect(Collectors.toList());
+
+        RecordedEvent command = getOnly(events, "seedu.address.Command");
+        assertEquals("delete", command.getString("commandWord"));
+        assertEquals(getTypicalAddressBook().getPatientList().size() - 1, command.getInt("patientCount"));
+        assertTrue(command.getDuration("executeDuration").toNanos() > 0);
+
+        RecordedEvent snapshot = getOnly(events, "seedu.address.Snapshot");
+        assertTrue(snapshot.getLong("snapshotBytes") > 0);
+
+        List<String> operations = events.stream()
+                .filter(event -> event.getEventType().getName().equals("seedu.address.DataFile"))
+                .map(event -> event.getString("operation"))
+                .collect(Collectors.toList());
+        assertEquals(List.of("write", "read"), operations);
+    }
+
+    private static RecordedEvent getOnly(List<RecordedEvent> events, String eventName) {
+        List<RecordedEvent> matches = events.stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .collect(Collectors.toList());
+        assertEquals(1, matches.size());
+        return matches.get(0);
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class UndoHistorySettingsTest {
+
+    @Test
+    public void constructor_negativeLimits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new UndoHistorySettings(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new UndoHistorySettings(0, -1));
+    }
+
+    @Test
+    public void equals() {
+        UndoHistorySettings settings = new UndoHistorySettings(10, 1024);
+
+        // same values -> returns true
+        assertTrue(settings.equals(new UndoHistorySettings(10, 1024)));
+
+        // same object -> returns true
+        assertTrue(settings.equals(settings));
+
+        // null -> returns false
+        assertFalse(settings.equals(null));
+
+        // different limits -> returns false
+        assertFalse(settings.equals(new UndoHistorySettings(11, 1024)));
+        assertFalse(settings.equals(new UndoHistorySettings(10, 1025)));
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void readRecord_plainFields_splitOnCommas() throws IOException {
+        BufferedReader reader = reader("name,phone\r\nAlice,123\n\nBob,");
+        assertEquals(List.of("name", "phone"), CsvUtil.readRecord(reader));
+        assertEquals(List.of("Alice", "123"), CsvUtil.readRecord(reader));
+        assertEquals(List.of(""), CsvUtil.readRecord(reader));
+        assertEquals(List.of("Bob", ""), CsvUtil.readRecord(reader));
+        assertNull(CsvUtil.readRecord(reader));
+    }
+
+    @Test
+    public void readRecord_quotedFields_unquoted() throws IOException {
+        BufferedReader reader = reader("\"311, Clementi Ave 2\",\"She said \"\"hi\"\"\",\"two\nlines\"\nnext");
+        assertEquals(List.of("311, Clementi Ave 2", "She said \"hi\"", "two\nlines"), CsvUtil.readRecord(reader));
+        assertEquals(List.of("next"), CsvUtil.readRecord(reader));
+    }
+
+    @Test
+    public void readRecord_unclosedQuote_throwsIoException() {
+        assertThrows(IOException.class, () -> CsvUtil.readRecord(reader("\"unclosed,field")));
+    }
+
+    @Test
+    public void writeRecord_fieldsNeedingQuotes_quoted() throws IOException {
+        StringWriter writer = new StringWriter();
+        CsvUtil.writeRecord(writer, "Alice", "311, Clementi Ave 2", "She said \"hi\"", "two\nlines", "");
+        assertEquals("Alice,\"311, Clementi Ave 2\",\"She said \"\"hi\"\"\",\"two\nlines\",\n", writer.toString());
+    }
+
+    @Test
+    public void writeRecord_thenReadRecord_sameFields() throws IOException {
+        String[] fields = {"a,b", "\"", "", "line\r\nbreak", "plain"};
+        StringWriter writer = new StringWriter();
+        CsvUtil.writeRecord(writer, fields);
+        assertEquals(List.of(fields), CsvUtil.readRecord(reader(writer.toString())));
+    }
+
+    @Test
+    public void escapeFormula_formulaLikeField_prefixedWithQuote() {
+        assertEquals("'=SUM(A1:A9)", CsvUtil.escapeFormula("=SUM(A1:A9)"));
+        assertEquals("'+6591234567", CsvUtil.escapeFormula("+6591234567"));
+        assertEquals("'-1", CsvUtil.escapeFormula("-1"));
+        assertEquals("'@cmd", CsvUtil.escapeFormula("@cmd"));
+        assertEquals("Alice = Bob", CsvUtil.escapeFormula("Alice = Bob"));
+        assertEquals("", CsvUtil.escapeFormula(""));
+    }
+
+    @Test
+    public void unescapeFormula_escapedField_quoteRemoved() {
+        for (String field : List.of("=SUM(A1:A9)", "+6591234567", "@cmd", "'quoted", "plain", "'", "")) {
+            assertEquals(field, CsvUtil.unescapeFormula(CsvUtil.escapeFormula(field)));
+        }
+        assertEquals("'quoted", CsvUtil.unescapeFormula("'quoted"));
+    }
+
+    private static BufferedReader reader(String content) {
+        return new BufferedReader(new StringReader(content));
+    }
+}
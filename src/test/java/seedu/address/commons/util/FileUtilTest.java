@@ -1,13 +1,23 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,62 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_newFileInMissingDirectory_writesContents() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("data.txt");
+        FileUtil.writeToFile(file, "contents");
+
+        assertEquals("contents", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(file.resolveSibling("data.txt" + FileUtil.TEMP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void writeAtomically_writerClosesStream_writesContents() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeAtomically(file, out -> {
+            out.write("closed".getBytes(StandardCharsets.UTF_8));
+            out.close();
+        });
+
+        assertEquals("closed", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_oldContentsKept() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(file.resolveSibling("data.txt" + FileUtil.TEMP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void writeAtomically_backupGenerations_keepsNewestBackups() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        for (String contents : new String[] {"first", "second", "third", "fourth"}) {
+            FileUtil.writeAtomically(file, 2, out -> out.write(contents.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        assertEquals("fourth", FileUtil.readFromFile(file));
+        assertEquals("third", FileUtil.readFromFile(FileUtil.getBackupPath(file, 1)));
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupPath(file, 2)));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file, 3)));
+    }
+
+    @Test
+    public void replaceWithTempFile_moveFails_dataFileKept() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeToFile(file, "first");
+
+        Path missingTempFile = testFolder.resolve("missing.tmp");
+        assertThrows(IOException.class, () -> FileUtil.replaceWithTempFile(file, 1, missingTempFile));
+
+        assertEquals("first", FileUtil.readFromFile(file));
+        assertEquals("first", FileUtil.readFromFile(FileUtil.getBackupPath(file, 1)));
+    }
 }
@@ -0,0 +1,111 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_isEmpty() {
+        PersistentList<String> list = PersistentList.empty();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+        assertFalse(list.iterator().hasNext());
+    }
+
+    @Test
+    public void of_elements_keepsOrder() {
+        List<String> elements = List.of("a", "b", "c", "d", "e");
+        PersistentList<String> list = PersistentList.of(elements);
+        assertEquals(elements, list.toList());
+        assertEquals("c", list.get(2));
+    }
+
+    @Test
+    public void of_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.of(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void updates_leaveOriginalUnchanged() {
+        PersistentList<String> original = PersistentList.of(List.of("a", "b", "c"));
+
+        assertEquals(List.of("a", "x", "c"), original.set(1, "x").toList());
+        assertEquals(List.of("a", "b", "c", "d"), original.add("d").toList());
+        assertEquals(List.of("x", "a", "b", "c"), original.add(0, "x").toList());
+        assertEquals(List.of("a", "c"), original.remove(1).toList());
+        assertEquals(List.of("a", "b", "c"), original.toList());
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(2, "b"));
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+        List<PersistentList<Integer>> actualVersions = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(4);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.add(index, i);
+            } else if (operation == 1) {
+                expected.add(i);
+                actual = actual.add(i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.set(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            }
+            expectedVersions.add(new ArrayList<>(expected));
+            actualVersions.add(actual);
+        }
+
+        for (int i = 0; i < expectedVersions.size(); i++) {
+            assertEquals(expectedVersions.get(i), actualVersions.get(i).toList());
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void equals() {
+        PersistentList<String> list = PersistentList.of(List.of("a", "b"));
+
+        // same values -> returns true
+        assertTrue(list.equals(PersistentList.empty().add("a").add("b")));
+
+        // same object -> returns true
+        assertTrue(list.equals(list));
+
+        // null -> returns false
+        assertFalse(list.equals(null));
+
+        // different values -> returns false
+        assertFalse(list.equals(list.remove(0)));
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.patient.Phone;
+import seedu.address.model.tag.Tag;
+
+public class ValidationUtilTest {
+
+    private static final List<String> SAMPLES = List.of("", " ", "+", "++123", "12", "123", "+123", "1+23",
+            "123456789012345", "1234567890123456", "+123456789012345", "+1234567890123456", "123 456", "123\n",
+            "٣٤٥٦", "１２３", "abc", "ABC", "a1B2", "a_b", "a-b", "é", "tag ", "\t", "a\u0000");
+
+    @Test
+    public void matches_sameAsStringMatches() {
+        for (String regex : List.of("[^\\s].*", "^\\+?\\d{3,15}$", "\\p{Alnum}+")) {
+            for (String sample : SAMPLES) {
+                assertEquals(sample.matches(regex), ValidationUtil.matches(sample, regex), regex + " on " + sample);
+            }
+        }
+    }
+
+    @Test
+    public void matches_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.matches(null, "a"));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.matches("a", null));
+    }
+
+    @Test
+    public void isAsciiAlphanumeric_sameAsTagRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches(Tag.VALIDATION_REGEX), ValidationUtil.isAsciiAlphanumeric(sample), sample);
+        }
+        assertTrue(ValidationUtil.isAsciiAlphanumeric("zZ09"));
+        assertFalse(ValidationUtil.isAsciiAlphanumeric(""));
+    }
+
+    @Test
+    public void isDigitsWithOptionalPlus_sameAsPhoneRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches(Phone.VALIDATION_REGEX),
+                    ValidationUtil.isDigitsWithOptionalPlus(sample, 3, 15), sample);
+        }
+        assertTrue(ValidationUtil.isDigitsWithOptionalPlus("+0", 1, 1));
+        assertFalse(ValidationUtil.isDigitsWithOptionalPlus("+-1", 1, 2));
+    }
+}
@@ -0,0 +1,170 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.patient.Patient;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandEngineTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    /** Stands in for the UI thread: published tasks wait here until the test runs them. */
+    private final BlockingQueue<Runnable> published = new LinkedBlockingQueue<>();
+    private final List<String> outcomes = new ArrayList<>();
+    private final CommandEngine.ResultHandler recordingHandler = new CommandEngine.ResultHandler() {
+        @Override
+        public void onSuccess(String commandText, CommandResult commandResult) {
+            outcomes.add(commandText + " -> " + commandResult.getFeedbackToUser());
+        }
+
+        @Override
+        public void onFailure(String commandText, Exception exception) {
+            outcomes.add(commandText + " -> " + exception.getClass().getSimpleName() + ": " + exception.getMessage());
+        }
+    };
+
+    private Model model;
+    private CommandEngine engine;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        engine = new CommandEngine(new LogicManager(model, storage), published::add);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    public void submit_commands_runInOrderAndPublishResults() throws Exception {
+        int patientCount = model.getFilteredPatientList().size();
+
+        engine.submit("delete 1", recordingHandler);
+        engine.submit("unknown", recordingHandler);
+        engine.submit("delete 1", recordingHandler);
+        engine.shutdown();
+
+        // nothing reaches the UI until the published tasks run on it
+        assertEquals(patientCount, engine.getDisplayedPatientList().size());
+        assertTrue(outcomes.isEmpty());
+
+        runPublished();
+        assertEquals(3, outcomes.size());
+        assertTrue(outcomes.get(0).startsWith("delete 1 -> Deleted Patient"));
+        assertEquals("unknown -> " + ParseException.class.getSimpleName() + ": " + MESSAGE_UNKNOWN_COMMAND,
+                outcomes.get(1));
+        assertTrue(outcomes.get(2).startsWith("delete 1 -> Deleted Patient"));
+        assertEquals(model.getFilteredPatientList(), engine.getDisplayedPatientList());
+        assertEquals(patientCount - 2, engine.getDisplayedPatientList().size());
+    }
+
+    @Test
+    public void submit_unchangedPatientList_notRepublished() throws Exception {
+        engine.submit("help", recordingHandler);
+        engine.shutdown();
+
+        // only the result is published
+        assertEquals(1, published.size());
+    }
+
+    @Test
+    public void submit_patientDeleted_publishesOnlyTheChange() throws Exception {
+        Patient secondPatient = model.getFilteredPatientList().get(1);
+        List<String> changes = new ArrayList<>();
+        engine.getDisplayedPatientList().addListener((ListChangeListener<Patient>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + " -" + change.getRemoved() + " +" + change.getAddedSubList());
+            }
+        });
+
+        engine.submit("delete 2", recordingHandler);
+        engine.shutdown();
+        runPublished();
+
+        assertEquals(List.of("1 -" + List.of(secondPatient) + " +[]"), changes);
+        assertEquals(model.getFilteredPatientList(), engine.getDisplayedPatientList());
+    }
+
+    @Test
+    public void submit_patientListFiltered_publishesFilteredList() throws Exception {
+        engine.submit("find Meier", recordingHandler);
+        engine.submit("edit 1 p/91234567", recordingHandler);
+        engine.submit("list", recordingHandler);
+        engine.submit("delete 1", recordingHandler);
+        engine.shutdown();
+        runPublished();
+
+        assertEquals(model.getFilteredPatientList(), engine.getDisplayedPatientList());
+    }
+
+    @Test
+    public void submit_whileCommandRuns_queued() throws Exception {
+        CountDownLatch isRunning = new CountDownLatch(1);
+        CountDownLatch mayFinish = new CountDownLatch(1);
+        CommandEngine blockingEngine = new CommandEngine(new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")))), task -> {
+                    isRunning.countDown();
+                    awaitQuietly(mayFinish);
+                    published.add(task);
+                });
+
+        blockingEngine.submit("list", recordingHandler);
+        assertTrue(isRunning.await(10, TimeUnit.SECONDS));
+        blockingEngine.submit("delete 1", recordingHandler);
+        blockingEngine.submit("delete 1", recordingHandler);
+        assertEquals(2, blockingEngine.getQueuedCommandCount());
+
+        mayFinish.countDown();
+        blockingEngine.shutdown();
+        assertEquals(0, blockingEngine.getQueuedCommandCount());
+        runPublished();
+        assertEquals(3, outcomes.size());
+    }
+
+    private void runPublished() {
+        Runnable task;
+        while ((task = published.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
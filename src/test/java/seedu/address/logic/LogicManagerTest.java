@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -22,6 +23,7 @@ import static seedu.address.testutil.TypicalPatients.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -36,9 +38,16 @@ import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteNoteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditNoteCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterNoteCommand;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.NoteCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.ViewNotesCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -101,6 +110,20 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commands_metricsRecordedByCommandWord() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        assertThrows(CommandException.class, () -> logic.execute("delete 9"));
+
+        String metrics = logic.getCommandMetrics().format();
+        assertEquals(3, logic.getCommandMetrics().getRecordedCommandCount());
+        assertTrue(metrics.contains(ListCommand.COMMAND_WORD + " "));
+        assertTrue(metrics.contains(DeleteCommand.COMMAND_WORD + " "));
+        assertTrue(metrics.contains(CommandMetrics.INVALID_COMMAND_WORD));
+        assertFalse(metrics.contains("uicfhmowqewca"));
+    }
+
     @Test
     public void getFilteredPatientList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPatientList().remove(0));
@@ -136,6 +159,83 @@ public class LogicManagerTest {
         assertTrue(logic.shouldSavePatientList(noteCommand));
     }
 
+    @Test
+    public void shouldSavePatientList_readOnlyAndHistoryCommands_false() {
+        assertFalse(logic.shouldSavePatientList(new ListCommand()));
+        assertFalse(logic.shouldSavePatientList(new HelpCommand()));
+        assertFalse(logic.shouldSavePatientList(new ExitCommand()));
+        assertFalse(logic.shouldSavePatientList(new UndoCommand()));
+        assertFalse(logic.shouldSavePatientList(new RedoCommand()));
+        assertFalse(logic.shouldSavePatientList(new ViewNotesCommand(ViewNotesCommand.ALL_PARAMETER)));
+        assertFalse(logic.shouldSavePatientList(new FilterNoteCommand(INDEX_FIRST_PATIENT, VALID_NOTE_TITLE_AMY)));
+    }
+
+    @Test
+    public void execute_readOnlyCommand_doesNotTouchStorage() throws Exception {
+        setUpStorageThatFailsOnSave();
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertFalse(model.hasUnsavedChanges());
+    }
+
+    @Test
+    public void execute_mutatingCommand_savesAndClearsUnsavedChanges() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        assertFalse(model.hasUnsavedChanges());
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_commandsPerSave_savedOnceEnoughCommandsRan() throws Exception {
+        setUpLogicSavingEvery(2);
+        Path addressBookFile = temporaryFolder.resolve("addressBook.json");
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + ADDRESS_DESC_AMY);
+        assertTrue(model.hasUnsavedChanges());
+        assertFalse(Files.exists(addressBookFile));
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(model.hasUnsavedChanges());
+        assertTrue(Files.exists(addressBookFile));
+    }
+
+    @Test
+    public void savePendingChanges_noCommandsPerSave_savedOnlyWhenAsked() throws Exception {
+        setUpLogicSavingEvery(0);
+        Path addressBookFile = temporaryFolder.resolve("addressBook.json");
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + ADDRESS_DESC_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(addressBookFile));
+
+        logic.savePendingChanges();
+        assertFalse(model.hasUnsavedChanges());
+        assertTrue(Files.exists(addressBookFile));
+    }
+
+    private void setUpLogicSavingEvery(int commandsPerSave) {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage), commandsPerSave);
+    }
+
+    /**
+     * Replaces {@code logic} with one whose address book storage fails every save.
+     */
+    private void setUpStorageThatFailsOnSave() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                            throws IOException {
+                        throw DUMMY_IO_EXCEPTION;
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
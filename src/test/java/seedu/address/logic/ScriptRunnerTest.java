@@ -0,0 +1,97 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ScriptRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model;
+    private ScriptRunner scriptRunner;
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(getAddressBookFile()),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        scriptRunner = new ScriptRunner(new LogicManager(model, storage, 0));
+    }
+
+    @Test
+    public void run_script_commandsRunAndChangesSaved() throws Exception {
+        int patientCount = model.getAddressBook().getPatientList().size();
+
+        int failedCount = run("# nightly clean-up\n"
+                + "\n"
+                + "  delete 1  \n"
+                + "delete 99\n"
+                + "unknowncommand\n"
+                + "list\n");
+
+        assertEquals(2, failedCount);
+        assertEquals(patientCount - 1, model.getAddressBook().getPatientList().size());
+        assertFalse(model.hasUnsavedChanges());
+        assertTrue(Files.exists(getAddressBookFile()));
+
+        String report = getOutput();
+        assertTrue(report.contains("Line 4: delete 99"));
+        assertTrue(report.contains("Line 5: unknowncommand"));
+        assertFalse(report.contains("Line 3"));
+        assertTrue(report.startsWith("Line 4"));
+        assertTrue(report.contains("Ran 4 commands (2 failed)"));
+        assertTrue(report.contains("Latency (microseconds)"));
+    }
+
+    @Test
+    public void run_exitCommand_remainingCommandsSkipped() throws Exception {
+        int patientCount = model.getAddressBook().getPatientList().size();
+
+        assertEquals(0, run("list\nexit\ndelete 1\n"));
+        assertEquals(patientCount, model.getAddressBook().getPatientList().size());
+        assertTrue(getOutput().contains("Ran 2 commands (0 failed)"));
+    }
+
+    @Test
+    public void run_emptyScript_nothingSaved() throws Exception {
+        assertEquals(0, run(""));
+        assertFalse(Files.exists(getAddressBookFile()));
+        assertTrue(getOutput().contains("Ran 0 commands (0 failed)"));
+    }
+
+    private int run(String script) throws Exception {
+        return scriptRunner.run(new BufferedReader(new StringReader(script)),
+                new PrintStream(output, true, StandardCharsets.UTF_8));
+    }
+
+    private String getOutput() {
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private Path getAddressBookFile() {
+        return temporaryFolder.resolve("addressBook.json");
+    }
+}
@@ -10,6 +10,7 @@ import static seedu.address.testutil.TypicalPatients.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -19,9 +20,12 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.HistoryFootprint;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.note.NoteSearchHit;
+import seedu.address.model.patient.NameContainsKeywordsPredicate;
 import seedu.address.model.patient.Patient;
 import seedu.address.testutil.PatientBuilder;
 
@@ -123,6 +127,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPatients(List<Patient> patients) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -177,6 +186,31 @@ public class AddCommandTest {
         public void saveAddressBook() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void findPatients(NameContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<NoteSearchHit> searchNotes(List<String> keywords, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public HistoryFootprint getUndoHistoryFootprint() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasUnsavedChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markAddressBookSaved() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
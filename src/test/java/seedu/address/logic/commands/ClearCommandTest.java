@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
 
@@ -9,6 +10,8 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.patient.Patient;
+import seedu.address.testutil.PatientBuilder;
 
 public class ClearCommandTest {
 
@@ -29,4 +32,18 @@ public class ClearCommandTest {
         assertCommandSuccess(new ClearCommand(), model, ClearCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void execute_pendingNotes_notesNotLoaded() throws Exception {
+        Patient patient = new PatientBuilder().withPendingNotes(() -> {
+            throw new AssertionError("Notes should not be loaded");
+        }).build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPatient(patient);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        new ClearCommand().execute(model);
+
+        assertTrue(patient.getPendingNoteLoader().isPresent());
+    }
+
 }
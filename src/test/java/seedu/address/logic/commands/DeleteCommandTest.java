@@ -14,10 +14,12 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.patient.Patient;
+import seedu.address.testutil.PatientBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -41,6 +43,21 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_pendingNotes_notesNotLoaded() throws Exception {
+        Patient patient = new PatientBuilder().withPendingNotes(() -> {
+            throw new AssertionError("Notes should not be loaded");
+        }).build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPatient(patient);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        new DeleteCommand(INDEX_FIRST_PATIENT).execute(model);
+
+        assertFalse(model.hasPatient(patient));
+        assertTrue(patient.getPendingNoteLoader().isPresent());
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPatientList().size() + 1);
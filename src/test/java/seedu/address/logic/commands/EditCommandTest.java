@@ -70,6 +70,24 @@ public class EditCommandTest {
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_pendingNotes_notesNotLoaded() throws Exception {
+        Patient patient = new PatientBuilder().withPendingNotes(() -> {
+            throw new AssertionError("Notes should not be loaded");
+        }).build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPatient(patient);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        EditPatientDescriptor descriptor = new EditPatientDescriptorBuilder().withPhone(VALID_PHONE_BOB).build();
+
+        new EditCommand(INDEX_FIRST_PATIENT, descriptor).execute(model);
+
+        Patient editedPatient = model.getFilteredPatientList().get(INDEX_FIRST_PATIENT.getZeroBased());
+        assertEquals(VALID_PHONE_BOB, editedPatient.getPhone().value);
+        assertTrue(patient.getPendingNoteLoader().isPresent());
+        assertTrue(editedPatient.getPendingNoteLoader().isPresent());
+    }
+
     @Test
     public void execute_someFieldsSpecifiedUnfilteredList_success() {
         Index indexLastPatient = Index.fromOneBased(model.getFilteredPatientList().size());
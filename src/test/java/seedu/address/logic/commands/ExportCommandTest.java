@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPatientAtIndex;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PATIENT;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExportCommand(null));
+    }
+
+    @Test
+    public void execute_allPatientsShown_allExported() throws IOException {
+        Path file = testFolder.resolve("patients.md");
+        int patientCount = model.getFilteredPatientList().size();
+
+        assertCommandSuccess(new ExportCommand(file), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, patientCount, file), expectedModel);
+        assertTrue(FileUtil.readFromFile(file).contains("## Alice Pauline"));
+    }
+
+    @Test
+    public void execute_filteredList_onlyShownPatientsExported() throws IOException {
+        showPatientAtIndex(model, INDEX_FIRST_PATIENT);
+        showPatientAtIndex(expectedModel, INDEX_FIRST_PATIENT);
+        Path file = testFolder.resolve("patients.csv");
+
+        assertCommandSuccess(new ExportCommand(file), model, String.format(ExportCommand.MESSAGE_SUCCESS, 1, file),
+                expectedModel);
+        String exported = FileUtil.readFromFile(file);
+        assertTrue(exported.contains("Alice Pauline"));
+        assertFalse(exported.contains("Benson Meier"));
+    }
+
+    @Test
+    public void execute_noPatientsShown_throwsCommandException() {
+        model.updateFilteredPatientList(unused -> false);
+        assertCommandFailure(new ExportCommand(testFolder.resolve("patients.csv")), model,
+                ExportCommand.MESSAGE_NO_PATIENTS);
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCsv = new ExportCommand(Paths.get("patients.csv"));
+        ExportCommand exportMarkdown = new ExportCommand(Paths.get("patients.md"));
+
+        assertTrue(exportCsv.equals(exportCsv));
+        assertTrue(exportCsv.equals(new ExportCommand(Paths.get("patients.csv"))));
+        assertFalse(exportCsv.equals(null));
+        assertFalse(exportCsv.equals(1));
+        assertFalse(exportCsv.equals(exportMarkdown));
+    }
+}
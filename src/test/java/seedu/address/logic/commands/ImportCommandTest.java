@@ -0,0 +1,153 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PatientBuilder;
+
+public class ImportCommandTest {
+
+    private static final String CSV_HEADER = "name,phone,address,tags\n";
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null));
+    }
+
+    @Test
+    public void execute_validPatients_allAdded() throws IOException {
+        Path file = write("patients.csv", CSV_HEADER
+                + "Yara Lim,91234567,\"1 Holland Road, #01-01\",Anxiety Outpatient\n"
+                + "Zack Tan,81234567,2 Bukit Timah Road,\n");
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addPatients(List.of(
+                new PatientBuilder().withName("Yara Lim").withPhone("91234567").withAddress("1 Holland Road, #01-01")
+                        .withTags("Anxiety", "Outpatient").withNoNote().build(),
+                new PatientBuilder().withName("Zack Tan").withPhone("81234567").withAddress("2 Bukit Timah Road")
+                        .withNoNote().build()));
+
+        assertCommandSuccess(new ImportCommand(file), model, String.format(ImportCommand.MESSAGE_SUCCESS, 2, file),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_invalidRows_nothingAdded() throws IOException {
+        Path file = write("patients.csv", CSV_HEADER
+                + "Yara Lim,91234567,1 Holland Road,\n"
+                + "Zack Tan,,2 Bukit Timah Road,\n"
+                + "Alice Pauline,94351253,\"123, Jurong West Ave 6, #08-111\",\n"
+                + "yara lim,92345678,3 Orchard Road,\n");
+
+        String expectedErrors = String.join("\n",
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 3,
+                        "Patient's Phone field is missing!"),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 4,
+                        String.format(ImportCommand.MESSAGE_ALREADY_EXISTS, "Alice Pauline")),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 5,
+                        String.format(ImportCommand.MESSAGE_DUPLICATE_ROW, "yara lim", 2)));
+        assertCommandFailure(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_INVALID_ROWS, 3, 4, file, expectedErrors));
+        assertFalse(model.hasPatient(new PatientBuilder().withName("Yara Lim").build()));
+    }
+
+    @Test
+    public void execute_duplicateInLaterBatch_nothingAdded() throws IOException {
+        StringBuilder content = new StringBuilder(CSV_HEADER);
+        for (int i = 0; i < ImportCommand.BATCH_SIZE; i++) {
+            content.append("Patient ").append(i).append(",9").append(1000000 + i).append(",1 Holland Road,\n");
+        }
+        content.append("patient 0,91234567,2 Holland Road,\n");
+        Path file = write("patients.csv", content.toString());
+        int patientCount = model.getAddressBook().getPatientList().size();
+
+        String expectedError = String.format(ImportCommand.MESSAGE_ROW_ERROR, ImportCommand.BATCH_SIZE + 2,
+                String.format(ImportCommand.MESSAGE_DUPLICATE_ROW, "patient 0", 2));
+        assertCommandFailure(new ImportCommand(file), model, String.format(ImportCommand.MESSAGE_INVALID_ROWS, 1,
+                ImportCommand.BATCH_SIZE + 1, file, expectedError));
+        assertEquals(patientCount, model.getAddressBook().getPatientList().size());
+    }
+
+    @Test
+    public void execute_manyInvalidRows_errorsTruncated() throws IOException {
+        StringBuilder content = new StringBuilder(CSV_HEADER);
+        int rowCount = ImportCommand.MAX_REPORTED_ERRORS + 5;
+        for (int i = 0; i < rowCount; i++) {
+            content.append("Patient ").append(i).append(",not a phone,1 Holland Road,\n");
+        }
+        Path file = write("patients.csv", content.toString());
+
+        try {
+            new ImportCommand(file).execute(model);
+        } catch (CommandException ce) {
+            assertTrue(ce.getMessage().endsWith(String.format(ImportCommand.MESSAGE_MORE_ERRORS, 5)));
+            return;
+        }
+        throw new AssertionError("The import should have failed");
+    }
+
+    @Test
+    public void execute_noPatients_throwsCommandException() throws IOException {
+        Path file = write("patients.csv", CSV_HEADER);
+        assertCommandFailure(new ImportCommand(file), model, String.format(ImportCommand.MESSAGE_NO_PATIENTS, file));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.csv");
+        try {
+            new ImportCommand(file).execute(model);
+        } catch (CommandException ce) {
+            assertTrue(ce.getMessage().startsWith(String.format(ImportCommand.MESSAGE_READ_FAILURE, file, "")));
+            return;
+        }
+        throw new AssertionError("The import should have failed");
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCsv = new ImportCommand(Paths.get("patients.csv"));
+        ImportCommand importJson = new ImportCommand(Paths.get("patients.json"));
+
+        assertTrue(importCsv.equals(importCsv));
+        assertTrue(importCsv.equals(new ImportCommand(Paths.get("patients.csv"))));
+        assertFalse(importCsv.equals(null));
+        assertFalse(importCsv.equals(1));
+        assertFalse(importCsv.equals(importJson));
+    }
+
+    private Path write(String fileName, String content) throws IOException {
+        Path file = testFolder.resolve(fileName);
+        FileUtil.writeToFile(file, content);
+        return file;
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.note.Note;
+import seedu.address.model.note.NoteSearchHit;
+import seedu.address.model.patient.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchNotesCommand}.
+ */
+public class SearchNotesCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SearchNotesCommand searchFirstCommand = new SearchNotesCommand(List.of("first"));
+        SearchNotesCommand searchSecondCommand = new SearchNotesCommand(List.of("second"));
+
+        // same object -> returns true
+        assertTrue(searchFirstCommand.equals(searchFirstCommand));
+
+        // same values -> returns true
+        assertTrue(searchFirstCommand.equals(new SearchNotesCommand(List.of("first"))));
+
+        // different types -> returns false
+        assertFalse(searchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(searchFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(searchFirstCommand.equals(searchSecondCommand));
+    }
+
+    @Test
+    public void execute_matchingNote_showsRankedHits() {
+        Note note = new Note("Insomnia", "Trouble sleeping", LocalDateTime.parse("2024-01-01T10:00:00"));
+        Patient editedAlice = new PatientBuilder(ALICE).withNoNote().withNotes(note).build();
+        model.setPatient(ALICE, editedAlice);
+
+        CommandResult result = new SearchNotesCommand(List.of("insomnia")).execute(model);
+
+        List<NoteSearchHit> hits = result.getNoteSearchHits();
+        assertEquals(String.format(SearchNotesCommand.MESSAGE_SUCCESS, 1), result.getFeedbackToUser());
+        assertEquals(1, hits.size());
+        assertEquals(editedAlice, hits.get(0).getPatient());
+        assertEquals(note, hits.get(0).getNote());
+    }
+
+    @Test
+    public void execute_noMatchingNote_showsNoMatchesMessage() {
+        CommandResult result = new SearchNotesCommand(List.of("zzzz")).execute(model);
+        assertEquals(SearchNotesCommand.MESSAGE_NO_MATCHES, result.getFeedbackToUser());
+        assertTrue(result.getNoteSearchHits().isEmpty());
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword");
+        SearchNotesCommand command = new SearchNotesCommand(keywords);
+        String expected = SearchNotesCommand.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, command.toString());
+    }
+}
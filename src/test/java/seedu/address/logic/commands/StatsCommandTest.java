@@ -0,0 +1,39 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class StatsCommandTest {
+
+    @Test
+    public void execute_recordedCommands_showsMetricsAndUndoHistory() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.startRecording().finish(ListCommand.COMMAND_WORD);
+
+        String feedback = new StatsCommand(metrics).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.contains(metrics.format()));
+        assertTrue(feedback.contains("Undo history: 0 undo steps, 0 redo steps"));
+        assertFalse(new StatsCommand(metrics).isMutating());
+    }
+
+    @Test
+    public void equals() {
+        CommandMetrics metrics = new CommandMetrics();
+        StatsCommand statsCommand = new StatsCommand(metrics);
+
+        assertTrue(statsCommand.equals(statsCommand));
+        assertTrue(statsCommand.equals(new StatsCommand(metrics)));
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandMetrics())));
+        assertFalse(statsCommand.equals(null));
+    }
+}
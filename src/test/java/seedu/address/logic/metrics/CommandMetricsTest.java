@@ -0,0 +1,49 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.metrics.CommandMetrics.Phase;
+
+public class CommandMetricsTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void format_recordedCommands_rowPerCommandWordAndPhase() {
+        CommandMetrics metrics = new CommandMetrics();
+        CommandMetrics.Recording recording = metrics.startRecording();
+        recording.startPhase(Phase.PARSE);
+        recording.startPhase(Phase.EXECUTE);
+        recording.finish("add");
+        recording = metrics.startRecording();
+        recording.startPhase(Phase.PARSE);
+        recording.finish(CommandMetrics.INVALID_COMMAND_WORD);
+
+        String table = metrics.format();
+        assertEquals(2, metrics.getRecordedCommandCount());
+        assertTrue(table.contains("add          parse"));
+        assertTrue(table.contains("add          execute"));
+        assertFalse(table.contains("add          save"));
+        assertTrue(table.contains(CommandMetrics.INVALID_COMMAND_WORD + "    parse"));
+    }
+
+    @Test
+    public void writeTo_recordedCommand_writesTable() throws Exception {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.startRecording().finish("list");
+        Path file = testFolder.resolve("metrics.txt");
+
+        metrics.writeTo(file);
+
+        assertTrue(Files.readString(file).contains(metrics.format()));
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void record_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Histogram().record(-1));
+    }
+
+    @Test
+    public void getPercentile_noValues_zero() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(0, histogram.getMean());
+    }
+
+    @Test
+    public void getPercentile_values_withinFactorOfTwo() {
+        Histogram histogram = new Histogram();
+        for (long value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+        histogram.record(0);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(102, histogram.getCount());
+        assertEquals(Long.MAX_VALUE, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(0));
+        // the 51st value is 50, in the bucket of 32 to 63
+        assertEquals(63, histogram.getPercentile(50));
+        assertEquals(127, histogram.getPercentile(99));
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(100));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(101));
+    }
+
+    @Test
+    public void getPercentile_percentileBeyondMax_max() {
+        Histogram histogram = new Histogram();
+        histogram.record(40);
+        assertEquals(40, histogram.getPercentile(99));
+        assertEquals(40, histogram.getMean());
+    }
+}
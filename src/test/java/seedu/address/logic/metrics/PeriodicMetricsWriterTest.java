@@ -0,0 +1,34 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PeriodicMetricsWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void writeIfChanged_noNewCommands_fileNotRewritten() throws Exception {
+        CommandMetrics metrics = new CommandMetrics();
+        Path file = testFolder.resolve("metrics.txt");
+        PeriodicMetricsWriter writer = new PeriodicMetricsWriter(metrics, file);
+
+        writer.writeIfChanged();
+        assertFalse(Files.exists(file));
+
+        metrics.startRecording().finish("list");
+        writer.writeIfChanged();
+        assertTrue(Files.exists(file));
+
+        Files.delete(file);
+        writer.stop();
+        assertFalse(Files.exists(file));
+    }
+}
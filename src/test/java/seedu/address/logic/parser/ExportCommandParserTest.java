@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+
+public class ExportCommandParserTest {
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_supportedFile_returnsExportCommand() {
+        assertParseSuccess(parser, " reports/patients.md ", new ExportCommand(Paths.get("reports/patients.md")));
+        assertParseSuccess(parser, "patients.CSV", new ExportCommand(Paths.get("patients.CSV")));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unsupportedFile_throwsParseException() {
+        assertParseFailure(parser, "patients.json", ExportCommand.MESSAGE_UNSUPPORTED_FILE);
+    }
+}
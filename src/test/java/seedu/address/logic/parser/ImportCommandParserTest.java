@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ImportCommand;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_supportedFile_returnsImportCommand() {
+        assertParseSuccess(parser, " data/patients.csv ", new ImportCommand(Paths.get("data/patients.csv")));
+        assertParseSuccess(parser, "clinic export.JSON", new ImportCommand(Paths.get("clinic export.JSON")));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, "patients\0.csv", ParserUtil.MESSAGE_INVALID_FILE_PATH);
+    }
+
+    @Test
+    public void parse_unsupportedFile_throwsParseException() {
+        assertParseFailure(parser, "patients.txt", ImportCommand.MESSAGE_UNSUPPORTED_FILE);
+        assertParseFailure(parser, "patients", ImportCommand.MESSAGE_UNSUPPORTED_FILE);
+    }
+}
@@ -6,6 +6,7 @@ import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PATIENT;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -145,6 +146,22 @@ public class ParserUtilTest {
         assertEquals(expectedTag, ParserUtil.parseTag(tagWithWhitespace));
     }
 
+    @Test
+    public void parseFilePath_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseFilePath(null));
+    }
+
+    @Test
+    public void parseFilePath_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseFilePath(WHITESPACE));
+        assertThrows(ParseException.class, () -> ParserUtil.parseFilePath("patients\0.csv"));
+    }
+
+    @Test
+    public void parseFilePath_validValueWithWhitespace_returnsTrimmedPath() throws Exception {
+        assertEquals(Paths.get("data", "patients.csv"), ParserUtil.parseFilePath(WHITESPACE + "data/patients.csv"));
+    }
+
     @Test
     public void parseTags_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseTags(null));
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SearchNotesCommand;
+
+public class SearchNotesCommandParserTest {
+
+    private SearchNotesCommandParser parser = new SearchNotesCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchNotesCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSearchNotesCommand() {
+        // no leading and trailing whitespaces
+        SearchNotesCommand expectedCommand = new SearchNotesCommand(Arrays.asList("sleep", "medication"));
+        assertParseSuccess(parser, "sleep medication", expectedCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n sleep \n \t medication  \t", expectedCommand);
+    }
+}
@@ -83,6 +83,35 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPatientList().remove(0));
     }
 
+    @Test
+    public void saveState_laterMutations_oldStateUnchanged() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.removePatient(ALICE);
+        typicalAddressBook.saveState();
+        Patient editedAlice = new PatientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        typicalAddressBook.addPatient(editedAlice);
+        typicalAddressBook.saveState();
+
+        ReadOnlyAddressBook oldState = typicalAddressBook.getOldState();
+        assertFalse(oldState.getPatientList().contains(editedAlice));
+        assertEquals(getTypicalAddressBook().getPatientList().size() - 1, oldState.getPatientList().size());
+
+        typicalAddressBook.resetData(oldState);
+        assertFalse(typicalAddressBook.hasPatient(ALICE));
+        assertTrue(typicalAddressBook.getFutureState().getPatientList().contains(editedAlice));
+    }
+
+    @Test
+    public void snapshot_laterMutations_snapshotUnchanged() {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<Patient> expectedPatients = List.copyOf(addressBook.getPatientList());
+
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        addressBook.removePatient(ALICE);
+
+        assertEquals(expectedPatients, snapshot.getPatientList());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{patients=" + addressBook.getPatientList() + "}";
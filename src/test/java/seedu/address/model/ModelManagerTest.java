@@ -15,8 +15,11 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.UndoHistorySettings;
 import seedu.address.model.patient.NameContainsKeywordsPredicate;
+import seedu.address.model.patient.Patient;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PatientBuilder;
 
 public class ModelManagerTest {
 
@@ -60,6 +63,58 @@ public class ModelManagerTest {
         assertEquals(guiSettings, modelManager.getGuiSettings());
     }
 
+    @Test
+    public void hasUnsavedChanges_afterMutationAndSave_tracksChanges() {
+        assertFalse(modelManager.hasUnsavedChanges());
+
+        modelManager.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
+        assertFalse(modelManager.hasUnsavedChanges());
+
+        modelManager.addPatient(ALICE);
+        assertTrue(modelManager.hasUnsavedChanges());
+
+        modelManager.markAddressBookSaved();
+        assertFalse(modelManager.hasUnsavedChanges());
+
+        modelManager.deletePatient(ALICE);
+        assertTrue(modelManager.hasUnsavedChanges());
+    }
+
+    @Test
+    public void setUserPrefs_undoHistorySettings_limitsHistory() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistorySettings(new UndoHistorySettings(1, Long.MAX_VALUE));
+        modelManager.setUserPrefs(userPrefs);
+
+        modelManager.addPatient(ALICE);
+        modelManager.saveAddressBook();
+        modelManager.addPatient(BENSON);
+        modelManager.saveAddressBook();
+        modelManager.deletePatient(ALICE);
+        modelManager.saveAddressBook();
+
+        HistoryFootprint footprint = modelManager.getUndoHistoryFootprint();
+        assertEquals(1, footprint.getUndoSteps());
+        assertTrue(footprint.getApproximateBytes() > 0);
+        assertEquals(userPrefs.getUndoHistorySettings(), footprint.getLimits());
+    }
+
+    @Test
+    public void findPatients_matchingPatientEdited_staysInFilteredList() {
+        modelManager.addPatient(ALICE);
+        modelManager.addPatient(BENSON);
+        modelManager.findPatients(new NameContainsKeywordsPredicate(Arrays.asList("alice")));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPatientList());
+
+        Patient editedAlice = new PatientBuilder(ALICE).withPhone("91234567").build();
+        modelManager.setPatient(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice), modelManager.getFilteredPatientList());
+
+        Patient renamedBenson = new PatientBuilder(BENSON).withName("Alice Meier").build();
+        modelManager.setPatient(BENSON, renamedBenson);
+        assertEquals(Arrays.asList(editedAlice, renamedBenson), modelManager.getFilteredPatientList());
+    }
+
     @Test
     public void setAddressBookFilePath_nullPath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setAddressBookFilePath(null));
@@ -18,4 +18,16 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setAddressBookFileFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFileFormat(null));
+    }
+
+    @Test
+    public void setUndoHistorySettings_nullSettings_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setUndoHistorySettings(null));
+    }
+
 }
@@ -1,11 +1,14 @@
 package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.UndoHistorySettings;
 import seedu.address.model.exceptions.RedoException;
 import seedu.address.model.exceptions.UndoException;
 import seedu.address.model.patient.Patient;
@@ -57,4 +60,58 @@ public class VersionedAddressBookTest {
         assertEquals(oldState, expected);
     }
 
+    @Test
+    public void saveState_moreStepsThanLimit_evictsOldest() throws UndoException {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook();
+        versionedAddressBook.setSettings(new UndoHistorySettings(2, Long.MAX_VALUE));
+        AddressBook first = new AddressBook();
+        versionedAddressBook.saveState(first);
+        for (int i = 0; i < 3; i++) {
+            versionedAddressBook.saveState(getTypicalAddressBook());
+        }
+
+        HistoryFootprint footprint = versionedAddressBook.getFootprint();
+        assertEquals(2, footprint.getUndoSteps());
+        assertEquals(1, footprint.getEvictedSteps());
+        versionedAddressBook.getOldState();
+        ReadOnlyAddressBook oldest = versionedAddressBook.getOldState();
+        assertFalse(versionedAddressBook.canUndo());
+        assertEquals(getTypicalAddressBook(), oldest);
+    }
+
+    @Test
+    public void saveState_overByteBudget_evictsOldestButKeepsCurrent() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook();
+        versionedAddressBook.setSettings(new UndoHistorySettings(100, 1000));
+        versionedAddressBook.saveState(new AddressBook());
+        versionedAddressBook.saveState(getTypicalAddressBook(), 600);
+        assertEquals(600, versionedAddressBook.getFootprint().getApproximateBytes());
+
+        versionedAddressBook.saveState(new AddressBook(), 600);
+        HistoryFootprint footprint = versionedAddressBook.getFootprint();
+        assertEquals(1, footprint.getUndoSteps());
+        assertEquals(600, footprint.getApproximateBytes());
+
+        // a tighter budget drops every undoable step, but never the current state
+        versionedAddressBook.setSettings(new UndoHistorySettings(100, 0));
+        assertFalse(versionedAddressBook.canUndo());
+        assertEquals(0, versionedAddressBook.getFootprint().getApproximateBytes());
+    }
+
+    @Test
+    public void saveState_afterUndo_discardsRedoStatesFromFootprint() throws UndoException {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook();
+        versionedAddressBook.saveState(new AddressBook());
+        versionedAddressBook.saveState(getTypicalAddressBook(), 100);
+        versionedAddressBook.saveState(new AddressBook(), 200);
+        versionedAddressBook.getOldState();
+        assertEquals(1, versionedAddressBook.getFootprint().getRedoSteps());
+
+        versionedAddressBook.saveState(new AddressBook(), 50);
+        HistoryFootprint footprint = versionedAddressBook.getFootprint();
+        assertEquals(0, footprint.getRedoSteps());
+        assertEquals(2, footprint.getUndoSteps());
+        assertEquals(150, footprint.getApproximateBytes());
+        assertTrue(versionedAddressBook.canUndo());
+    }
 }
@@ -0,0 +1,115 @@
+package seedu.address.model.note;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.patient.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+public class NoteIndexTest {
+
+    private static final Note MEDICATION_NOTE = new Note("Medication", "Started on sertraline",
+            LocalDateTime.parse("2024-01-01T10:00:00"));
+    private static final Note SLEEP_NOTE = new Note("Sleep", "Reports poor sleep; medication helps",
+            LocalDateTime.parse("2024-01-02T10:00:00"));
+    private static final Note FAMILY_NOTE = new Note("Family", "Discussed family support",
+            LocalDateTime.parse("2024-01-03T10:00:00"));
+
+    private NoteIndex noteIndex;
+    private Patient alice;
+    private Patient benson;
+
+    @BeforeEach
+    public void setUp() {
+        noteIndex = new NoteIndex();
+        alice = new PatientBuilder(ALICE).withNoNote().withNotes(MEDICATION_NOTE, FAMILY_NOTE).build();
+        benson = new PatientBuilder(BENSON).withNoNote().withNotes(SLEEP_NOTE).build();
+        noteIndex.addPatient(alice);
+        noteIndex.addPatient(benson);
+    }
+
+    @Test
+    public void search_titleMatch_rankedAboveContentMatch() {
+        List<NoteSearchHit> hits = noteIndex.search(List.of("MEDICATION"), 10);
+        assertEquals(2, hits.size());
+        assertEquals(MEDICATION_NOTE, hits.get(0).getNote());
+        assertEquals(alice, hits.get(0).getPatient());
+        assertEquals(SLEEP_NOTE, hits.get(1).getNote());
+        assertTrue(hits.get(0).getScore() > hits.get(1).getScore());
+    }
+
+    @Test
+    public void search_prefixKeyword_matchesLongerWords() {
+        List<NoteSearchHit> hits = noteIndex.search(List.of("fam"), 10);
+        assertEquals(1, hits.size());
+        assertEquals(FAMILY_NOTE, hits.get(0).getNote());
+    }
+
+    @Test
+    public void search_limit_keepsBestHits() {
+        List<NoteSearchHit> hits = noteIndex.search(List.of("medication"), 1);
+        assertEquals(1, hits.size());
+        assertEquals(MEDICATION_NOTE, hits.get(0).getNote());
+        assertThrows(IllegalArgumentException.class, () -> noteIndex.search(List.of("medication"), 0));
+    }
+
+    @Test
+    public void search_noMatch_returnsEmptyList() {
+        assertTrue(noteIndex.search(List.of("appointment"), 10).isEmpty());
+        assertTrue(noteIndex.search(List.of("!!!"), 10).isEmpty());
+    }
+
+    @Test
+    public void updatePatient_notesEdited_reindexesChangedNotes() {
+        Note editedMedicationNote = new Note("Medication", "Switched to fluoxetine",
+                MEDICATION_NOTE.getDateTimeCreated());
+        Patient editedAlice = new PatientBuilder(alice).withPhone("99999999")
+                .withNoNote().withNotes(editedMedicationNote, FAMILY_NOTE).build();
+        noteIndex.updatePatient(alice, editedAlice);
+
+        assertTrue(noteIndex.search(List.of("sertraline"), 10).isEmpty());
+        List<NoteSearchHit> hits = noteIndex.search(List.of("fluoxetine"), 10);
+        assertEquals(1, hits.size());
+        assertEquals(editedAlice, hits.get(0).getPatient());
+        assertEquals(editedAlice, noteIndex.search(List.of("family"), 10).get(0).getPatient());
+        assertEquals(3, noteIndex.getNoteCount());
+    }
+
+    @Test
+    public void updatePatient_renamed_notesFollowPatient() {
+        Patient renamedAlice = new PatientBuilder(alice).withName("Alicia Pauline").build();
+        noteIndex.updatePatient(alice, renamedAlice);
+
+        assertEquals(renamedAlice, noteIndex.search(List.of("family"), 10).get(0).getPatient());
+        assertEquals(3, noteIndex.getNoteCount());
+    }
+
+    @Test
+    public void removePatient_notesNoLongerFound() {
+        noteIndex.removePatient(alice);
+        assertTrue(noteIndex.search(List.of("family"), 10).isEmpty());
+        assertEquals(1, noteIndex.getNoteCount());
+    }
+
+    @Test
+    public void setPatients_replacesIndexedPatients() {
+        Patient bensonWithoutNotes = new PatientBuilder(benson).withNoNote().build();
+        noteIndex.setPatients(List.of(alice, bensonWithoutNotes));
+
+        assertTrue(noteIndex.search(List.of("sleep"), 10).isEmpty());
+        assertEquals(2, noteIndex.getNoteCount());
+
+        noteIndex.setPatients(List.of());
+        assertEquals(0, noteIndex.getNoteCount());
+        assertTrue(noteIndex.search(List.of("medication"), 10).isEmpty());
+    }
+}
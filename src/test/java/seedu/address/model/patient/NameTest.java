@@ -1,6 +1,8 @@
 package seedu.address.model.patient;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -38,6 +40,12 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void getIdentityKey_differentCase_sameKey() {
+        assertEquals(new Name("Peter Jack").getIdentityKey(), new Name("peter JACK").getIdentityKey());
+        assertNotEquals(new Name("Peter Jack").getIdentityKey(), new Name("Peter Jackson").getIdentityKey());
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
@@ -0,0 +1,88 @@
+package seedu.address.model.patient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.getTypicalPatients;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PatientBuilder;
+
+public class PatientSubstringIndexTest {
+
+    private PatientSubstringIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new PatientSubstringIndex();
+        index.setPatients(getTypicalPatients());
+    }
+
+    @Test
+    public void findCandidates_shortKeyword_returnsNull() {
+        assertNull(index.findCandidates("al"));
+    }
+
+    @Test
+    public void findCandidates_keywordInName_containsPatient() {
+        Set<Patient> candidates = index.findCandidates("PAUL");
+        assertTrue(candidates.contains(ALICE));
+        assertFalse(candidates.contains(BENSON));
+    }
+
+    @Test
+    public void findCandidates_unknownTrigram_returnsEmptySet() {
+        assertTrue(index.findCandidates("zzzqqq").isEmpty());
+    }
+
+    @Test
+    public void remove_patient_noLongerCandidate() {
+        index.remove(ALICE);
+        assertFalse(index.findCandidates("paul").contains(ALICE));
+    }
+
+    @Test
+    public void narrow_agreesWithPredicate() {
+        for (List<String> keywords : List.of(List.of("paul"), List.of("al", "meier"), List.of("9482", "street"),
+                List.of("nobody"), List.<String>of())) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            Predicate<Patient> narrowed = index.narrow(predicate);
+            for (Patient patient : getTypicalPatients()) {
+                assertEquals(predicate.test(patient), narrowed.test(patient), keywords + " on " + patient);
+            }
+        }
+    }
+
+    @Test
+    public void narrow_indexChanged_reflectsChange() {
+        Predicate<Patient> narrowed = index.narrow(new NameContainsKeywordsPredicate(List.of("paul")));
+        assertTrue(narrowed.test(ALICE));
+
+        Patient renamedAlice = new PatientBuilder(ALICE).withName("Alice Smith").build();
+        index.remove(ALICE);
+        index.add(renamedAlice);
+        assertFalse(narrowed.test(renamedAlice));
+        assertFalse(narrowed.test(ALICE));
+    }
+
+    @Test
+    public void setPatients_someChanged_reindexesOnlyChanges() {
+        Patient editedBenson = new PatientBuilder(BENSON).withAddress("12 Orchard Road").build();
+        index.setPatients(List.of(ALICE, editedBenson));
+
+        assertTrue(index.findCandidates("paul").contains(ALICE));
+        assertTrue(index.findCandidates("orchard").contains(editedBenson));
+        assertFalse(index.findCandidates("orchard").contains(BENSON));
+        assertTrue(index.findCandidates("meier").stream().allMatch(patient -> patient == editedBenson));
+        assertTrue(index.findCandidates("kurz").isEmpty());
+    }
+}
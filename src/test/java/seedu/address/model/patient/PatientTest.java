@@ -11,8 +11,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPatients.ALICE;
 import static seedu.address.testutil.TypicalPatients.BOB;
 
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.note.Note;
+import seedu.address.model.note.NoteLoader;
 import seedu.address.testutil.PatientBuilder;
 
 public class PatientTest {
@@ -23,6 +28,40 @@ public class PatientTest {
         assertThrows(UnsupportedOperationException.class, () -> patient.getTags().remove(0));
     }
 
+    @Test
+    public void getNotes_lazyNotes_loadedOnceWhenFirstNeeded() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Patient lazyAlice = new Patient(ALICE.getName(), ALICE.getPhone(), ALICE.getAddress(), ALICE.getTags(), () -> {
+            loadCount.incrementAndGet();
+            return new TreeSet<Note>(ALICE.getNotes());
+        });
+        assertTrue(lazyAlice.getPendingNoteLoader().isPresent());
+        assertEquals(0, loadCount.get());
+
+        assertEquals(ALICE, lazyAlice);
+        assertEquals(ALICE.getNotes(), lazyAlice.getNotes());
+        assertEquals(1, loadCount.get());
+        assertFalse(lazyAlice.getPendingNoteLoader().isPresent());
+        assertFalse(ALICE.getPendingNoteLoader().isPresent());
+    }
+
+    @Test
+    public void equalsHashCodeAndToString_lazyNotes_notLoaded() {
+        NoteLoader failingLoader = () -> {
+            throw new IllegalStateException("Notes could not be loaded");
+        };
+        Patient lazyAlice = new Patient(ALICE.getName(), ALICE.getPhone(), ALICE.getAddress(), ALICE.getTags(),
+                failingLoader);
+        Patient otherLazyAlice = new Patient(ALICE.getName(), ALICE.getPhone(), ALICE.getAddress(), ALICE.getTags(),
+                failingLoader);
+
+        assertEquals(ALICE.hashCode(), lazyAlice.hashCode());
+        assertTrue(lazyAlice.toString().contains(Patient.NOTES_NOT_LOADED));
+        assertEquals(lazyAlice, otherLazyAlice);
+        assertFalse(lazyAlice.equals(BOB));
+        assertTrue(lazyAlice.getPendingNoteLoader().isPresent());
+    }
+
     @Test
     public void isSamePatient() {
         // same object -> returns true
@@ -8,13 +8,16 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPatients.ALICE;
 import static seedu.address.testutil.TypicalPatients.BOB;
+import static seedu.address.testutil.TypicalPatients.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.patient.exceptions.DuplicatePatientException;
 import seedu.address.model.patient.exceptions.PatientNotFoundException;
 import seedu.address.testutil.PatientBuilder;
@@ -47,6 +50,42 @@ public class UniquePatientListTest {
         assertTrue(uniquePatientList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_patientWithDifferentlyCasedNameInList_returnsTrue() {
+        uniquePatientList.add(ALICE);
+        Patient upperCaseAlice = new PatientBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertTrue(uniquePatientList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void contains_patientRemovedFromList_returnsFalse() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.remove(ALICE);
+        assertFalse(uniquePatientList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_afterSetPatientWithDifferentIdentity_tracksEditedPatient() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.setPatient(ALICE, BOB);
+        assertFalse(uniquePatientList.contains(ALICE));
+        assertTrue(uniquePatientList.contains(BOB));
+    }
+
+    @Test
+    public void contains_afterSetPatients_tracksReplacementList() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.setPatients(Collections.singletonList(BOB));
+        assertFalse(uniquePatientList.contains(ALICE));
+        assertTrue(uniquePatientList.contains(BOB));
+
+        UniquePatientList replacement = new UniquePatientList();
+        replacement.add(ALICE);
+        uniquePatientList.setPatients(replacement);
+        assertTrue(uniquePatientList.contains(ALICE));
+        assertFalse(uniquePatientList.contains(BOB));
+    }
+
     @Test
     public void add_nullPatient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePatientList.add(null));
@@ -58,6 +97,34 @@ public class UniquePatientListTest {
         assertThrows(DuplicatePatientException.class, () -> uniquePatientList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newPatients_addedInOrder() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.addAll(Arrays.asList(BOB, CARL));
+
+        UniquePatientList expectedUniquePatientList = new UniquePatientList();
+        expectedUniquePatientList.add(ALICE);
+        expectedUniquePatientList.add(BOB);
+        expectedUniquePatientList.add(CARL);
+        assertEquals(expectedUniquePatientList, uniquePatientList);
+        assertEquals(expectedUniquePatientList.asPersistentList(), uniquePatientList.asPersistentList());
+        assertTrue(uniquePatientList.contains(CARL));
+    }
+
+    @Test
+    public void addAll_patientAlreadyInList_throwsDuplicatePatientExceptionAndListUnchanged() {
+        uniquePatientList.add(ALICE);
+        assertThrows(DuplicatePatientException.class, () -> uniquePatientList.addAll(Arrays.asList(BOB, ALICE)));
+        assertFalse(uniquePatientList.contains(BOB));
+        assertEquals(1, uniquePatientList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void addAll_duplicatePatients_throwsDuplicatePatientException() {
+        assertThrows(DuplicatePatientException.class, () -> uniquePatientList.addAll(Arrays.asList(BOB, BOB)));
+        assertFalse(uniquePatientList.contains(BOB));
+    }
+
     @Test
     public void setPatient_nullTargetPatient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePatientList.setPatient(null, ALICE));
@@ -162,6 +229,52 @@ public class UniquePatientListTest {
         assertThrows(DuplicatePatientException.class, () -> uniquePatientList.setPatients(listWithDuplicatePatients));
     }
 
+    @Test
+    public void setPatients_listWithSeveralDuplicates_reportsEveryDuplicateAndKeepsList() {
+        uniquePatientList.add(CARL);
+        List<Patient> listWithDuplicatePatients = Arrays.asList(ALICE, BOB, ALICE, BOB, ALICE);
+        DuplicatePatientException thrown = Assertions.assertThrows(DuplicatePatientException.class, () ->
+                uniquePatientList.setPatients(listWithDuplicatePatients));
+        assertEquals(Arrays.asList(ALICE.getName(), BOB.getName()), thrown.getDuplicateNames());
+
+        UniquePatientList expectedUniquePatientList = new UniquePatientList();
+        expectedUniquePatientList.add(CARL);
+        assertEquals(expectedUniquePatientList, uniquePatientList);
+    }
+
+    @Test
+    public void asPersistentList_laterMutations_snapshotUnchanged() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BOB);
+        PersistentList<Patient> snapshot = uniquePatientList.asPersistentList();
+
+        Patient editedAlice = new PatientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePatientList.setPatient(ALICE, editedAlice);
+        uniquePatientList.remove(BOB);
+        uniquePatientList.add(CARL);
+
+        assertEquals(List.of(ALICE, BOB), snapshot.toList());
+        assertEquals(uniquePatientList.asUnmodifiableObservableList(), uniquePatientList.asPersistentList().toList());
+    }
+
+    @Test
+    public void setPatients_persistentList_restoresSnapshot() {
+        uniquePatientList.add(ALICE);
+        PersistentList<Patient> snapshot = uniquePatientList.asPersistentList();
+        uniquePatientList.add(BOB);
+
+        uniquePatientList.setPatients(snapshot);
+        assertEquals(List.of(ALICE), uniquePatientList.asUnmodifiableObservableList());
+        assertFalse(uniquePatientList.contains(BOB));
+        assertEquals(snapshot, uniquePatientList.asPersistentList());
+    }
+
+    @Test
+    public void setPatients_persistentListWithDuplicatePatients_throwsDuplicatePatientException() {
+        PersistentList<Patient> patients = PersistentList.of(List.of(ALICE, ALICE));
+        assertThrows(DuplicatePatientException.class, () -> uniquePatientList.setPatients(patients));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
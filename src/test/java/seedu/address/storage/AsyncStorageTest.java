@@ -0,0 +1,163 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.HOON;
+import static seedu.address.testutil.TypicalPatients.IDA;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_thenFlush_writesData() throws Exception {
+        AsyncStorage storage = new AsyncStorage(createStorage(new JsonAddressBookStorage(dataFile())));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        storage.flush();
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_laterChangesToModel_doNotAffectSnapshot() throws Exception {
+        AsyncStorage storage = new AsyncStorage(createStorage(new JsonAddressBookStorage(dataFile())));
+        AddressBook original = getTypicalAddressBook();
+        AddressBook expected = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        original.removePatient(ALICE);
+        storage.flush();
+
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_burstWhileWriterBusy_coalescesIntoOneWrite() throws Exception {
+        BlockingAddressBookStorage blockingStorage = new BlockingAddressBookStorage(dataFile());
+        AsyncStorage storage = new AsyncStorage(createStorage(blockingStorage));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertTrue(blockingStorage.writeStarted.await(5, TimeUnit.SECONDS));
+        original.addPatient(HOON);
+        storage.saveAddressBook(original);
+        original.addPatient(IDA);
+        storage.saveAddressBook(original);
+        blockingStorage.release.countDown();
+        storage.flush();
+
+        assertEquals(2, blockingStorage.savedSizes.size());
+        assertEquals(original.getPatientList().size(), blockingStorage.savedSizes.get(1));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flush_writeFails_reportsFailureAndRetries() throws Exception {
+        FailingAddressBookStorage failingStorage = new FailingAddressBookStorage(dataFile());
+        AsyncStorage storage = new AsyncStorage(createStorage(failingStorage));
+        List<IOException> failures = new ArrayList<>();
+        storage.setWriteFailureListener(failures::add);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertThrows(IOException.class, storage::flush);
+        assertTrue(failures.size() >= 1);
+
+        failingStorage.isFailing = false;
+        storage.flush();
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flush_interrupted_throwsInterruptedIoException() throws Exception {
+        BlockingAddressBookStorage blockingStorage = new BlockingAddressBookStorage(dataFile());
+        AsyncStorage storage = new AsyncStorage(createStorage(blockingStorage));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertTrue(blockingStorage.writeStarted.await(5, TimeUnit.SECONDS));
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(InterruptedIOException.class, storage::flush);
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+            blockingStorage.release.countDown();
+        }
+
+        storage.flush();
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    private Path dataFile() {
+        return testFolder.resolve("addressbook.json");
+    }
+
+    private StorageManager createStorage(AddressBookStorage addressBookStorage) {
+        return new StorageManager(addressBookStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+    }
+
+    /**
+     * An address book storage whose first write waits until {@code release} is counted down.
+     */
+    private static class BlockingAddressBookStorage extends JsonAddressBookStorage {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<Integer> savedSizes = new ArrayList<>();
+
+        BlockingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ie) {
+                throw new IOException(ie);
+            }
+            savedSizes.add(addressBook.getPatientList().size());
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    /**
+     * An address book storage that fails every write while {@code isFailing} is set.
+     */
+    private static class FailingAddressBookStorage extends JsonAddressBookStorage {
+        private volatile boolean isFailing = true;
+
+        FailingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (isFailing) {
+                throw new IOException("dummy IO exception");
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+}
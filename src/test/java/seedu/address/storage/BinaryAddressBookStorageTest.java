@@ -0,0 +1,227 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.HOON;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.note.Note;
+import seedu.address.model.patient.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(testFolder).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        original.addPatient(new PatientBuilder(HOON).withNotes(
+                new Note("Précis", "日本語 content", LocalDateTime.parse("2024-02-29T23:59:59.123456789"))).build());
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.removePatient(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        Path binaryFile = testFolder.resolve("addressbook.bin");
+        Path jsonFile = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+
+        new BinaryAddressBookStorage(binaryFile).saveAddressBook(addressBook);
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(addressBook);
+
+        assertTrue(Files.size(binaryFile) * 2 < Files.size(jsonFile));
+    }
+
+    @Test
+    public void convertBetweenFormats_lossless() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.data");
+        AddressBook original = getTypicalAddressBook();
+
+        // json -> binary
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(filePath);
+        ReadOnlyAddressBook fromJson = binaryStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(fromJson));
+        binaryStorage.saveAddressBook(fromJson);
+
+        // binary -> json
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath);
+        ReadOnlyAddressBook fromBinary = jsonStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(fromBinary));
+        jsonStorage.saveAddressBook(fromBinary);
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertEquals(original, new AddressBook(jsonStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_jsonWithJournal_journalReplayed() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(filePath);
+        journalStorage.saveAddressBook(original);
+        original.addPatient(HOON);
+        journalStorage.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidPatientJson_throwDataLoadingException() {
+        Path filePath = TEST_DATA_FOLDER.resolve("invalidPatientAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[BinaryAddressBookStorage.MAGIC.length] = BinaryAddressBookStorage.FORMAT_VERSION + 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 5));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidPatient_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPatient(new PatientBuilder(ALICE).withPhone("94351253").build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+        byte[] bytes = Files.readAllBytes(filePath);
+        String contents = new String(bytes, StandardCharsets.ISO_8859_1);
+        bytes[contents.indexOf("94351253")] = 'x';
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_lazyNoteLoading_notesLoadedWhenNeeded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook lazy = new BinaryAddressBookStorage(filePath, true).readAddressBook().get();
+        for (Patient patient : lazy.getPatientList()) {
+            assertTrue(patient.getPendingNoteLoader().isPresent());
+        }
+        assertEquals(original, new AddressBook(lazy));
+    }
+
+    @Test
+    public void saveAddressBook_lazyNotesNeverLoaded_notesKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, true);
+        AddressBook lazy = new AddressBook(storage.readAddressBook().get());
+        Patient lazyAlice = lazy.getPatientList().get(0);
+        Patient lazyBenson = lazy.getPatientList().get(1);
+
+        // the edited patient moves every later patient in the file, and the removed one is no longer in it
+        Patient editedAlice = new PatientBuilder(ALICE).withName("Alice Pauline Longer Name").build();
+        lazy.setPatient(lazyAlice, editedAlice);
+        lazy.removePatient(lazyBenson);
+        storage.saveAddressBook(lazy);
+
+        original.setPatient(ALICE, editedAlice);
+        original.removePatient(BENSON);
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, lazy);
+        assertEquals(BENSON.getNotes(), lazyBenson.getNotes());
+    }
+
+    @Test
+    public void saveAddressBook_lazyNotesToOtherFile_copiedWithoutLoading() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Path otherFilePath = testFolder.resolve("OtherAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, true);
+        ReadOnlyAddressBook lazy = storage.readAddressBook().get();
+
+        storage.saveAddressBook(lazy, otherFilePath);
+
+        for (Patient patient : lazy.getPatientList()) {
+            assertTrue(patient.getPendingNoteLoader().isPresent());
+        }
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(otherFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_lazyNotesCorrupted_failOnlyWhenLoaded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPatient(new PatientBuilder(ALICE).withNotes(
+                new Note("Title", "Content", LocalDateTime.parse("2024-01-01T09:00:00"))).build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+        byte[] bytes = Files.readAllBytes(filePath);
+        String contents = new String(bytes, StandardCharsets.ISO_8859_1);
+        int titleStart = contents.indexOf("Title");
+        Arrays.fill(bytes, titleStart, titleStart + "Title".length(), (byte) ' ');
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+        ReadOnlyAddressBook lazy = new BinaryAddressBookStorage(filePath, true).readAddressBook().get();
+        Patient lazyAlice = lazy.getPatientList().get(0);
+        assertEquals(ALICE.getName(), lazyAlice.getName());
+        assertThrows(IllegalStateException.class, lazyAlice::getNotes);
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("SomeFile.bin");
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(filePath).saveAddressBook(null));
+    }
+}
@@ -0,0 +1,273 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.HOON;
+import static seedu.address.testutil.TypicalPatients.IDA;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.note.Note;
+import seedu.address.model.patient.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JournalAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        storage = new JournalAddressBookStorage(filePath);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotAndEmptyJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(1, journalLines().size());
+    }
+
+    @Test
+    public void saveAddressBook_patientChanges_appendsOneEntryPerChange() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        original.addPatient(HOON);
+        storage.saveAddressBook(original);
+        original.removePatient(BENSON);
+        storage.saveAddressBook(original);
+        Patient editedAlice = new PatientBuilder(ALICE).withPhone("91234567").build();
+        original.setPatient(ALICE, editedAlice);
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, journalLines().size());
+        assertReadBackEquals(original);
+    }
+
+    @Test
+    public void saveAddressBook_noteChanges_appendsNoteEntries() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        Note addedNote = new Note("Follow up", "Review medication", LocalDateTime.parse("2024-01-01T10:00:00"));
+        Patient aliceWithNote = withNotes(ALICE, addedNote);
+        original.setPatient(ALICE, aliceWithNote);
+        storage.saveAddressBook(original);
+
+        Note editedNote = new Note("Follow up", "Medication reviewed", LocalDateTime.parse("2024-01-02T10:00:00"));
+        Patient aliceWithEditedNote = withNotes(ALICE, editedNote);
+        original.setPatient(aliceWithNote, aliceWithEditedNote);
+        storage.saveAddressBook(original);
+
+        original.setPatient(aliceWithEditedNote, ALICE);
+        storage.saveAddressBook(original);
+
+        List<String> lines = journalLines();
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(1).contains(JsonJournalEntry.Operation.ADD_NOTE.name()));
+        assertTrue(lines.get(2).contains(JsonJournalEntry.Operation.EDIT_NOTE.name()));
+        assertTrue(lines.get(3).contains(JsonJournalEntry.Operation.DELETE_NOTE.name()));
+        assertReadBackEquals(original);
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_writesNothing() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertEquals(1, journalLines().size());
+    }
+
+    @Test
+    public void saveAddressBook_changeNotExpressibleAsEntries_compacts() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPatient(HOON);
+        storage.saveAddressBook(original);
+
+        original.setPatients(List.of(IDA));
+        storage.saveAddressBook(original);
+
+        assertEquals(1, journalLines().size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertReadBackEquals(original);
+    }
+
+    @Test
+    public void saveAddressBook_thresholdExceeded_compacts() throws Exception {
+        storage = new JournalAddressBookStorage(filePath, 2);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPatient(HOON);
+        storage.saveAddressBook(original);
+        original.addPatient(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(3, journalLines().size());
+
+        original.removePatient(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(1, journalLines().size());
+        assertReadBackEquals(original);
+    }
+
+    @Test
+    public void readAddressBook_afterReload_continuesJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPatient(HOON);
+        storage.saveAddressBook(original);
+
+        JournalAddressBookStorage reloaded = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(reloaded.readAddressBook().get());
+        readBack.addPatient(IDA);
+        reloaded.saveAddressBook(readBack);
+
+        assertEquals(3, journalLines().size());
+        original.addPatient(IDA);
+        assertReadBackEquals(original);
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_skipsEntry() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Files.writeString(storage.getJournalFilePath(), "{\"operation\":\"ADD_PAT", StandardOpenOption.APPEND);
+
+        assertReadBackEquals(original);
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherSnapshot_ignoresJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPatient(HOON);
+        storage.saveAddressBook(original);
+
+        AddressBook edited = getTypicalAddressBook();
+        edited.removePatient(ALICE);
+        new JsonAddressBookStorage(filePath).saveAddressBook(edited);
+
+        assertReadBackEquals(edited);
+    }
+
+    @Test
+    public void readAddressBook_invalidEntry_throwsDataLoadingException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.writeString(storage.getJournalFilePath(), "{\"operation\":\"DELETE_PATIENT\",\"index\":99}\n"
+                + "{\"operation\":\"DELETE_PATIENT\",\"index\":0}\n", StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptedSnapshot_recoversBackupAndCompactsOnSave() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPatient(HOON);
+        storage.compact(original);
+        Files.writeString(filePath, "{ \"patients\" : [");
+
+        JournalAddressBookStorage reloaded = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(reloaded.readAddressBook().get());
+        assertEquals(getTypicalAddressBook(), readBack);
+
+        readBack.addPatient(IDA);
+        reloaded.saveAddressBook(readBack);
+        assertEquals(1, journalLines().size());
+        assertReadBackEquals(readBack);
+    }
+
+    @Test
+    public void readAddressBook_crashDuringCompaction_replaysJournalOnBackup() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPatient(HOON);
+        storage.saveAddressBook(original);
+        // a compaction that stopped after the snapshot was backed up, leaving a partial temporary file behind
+        Files.copy(filePath, FileUtil.getBackupPath(filePath, 1));
+        Files.writeString(filePath, "{ \"patients\" : [");
+
+        JournalAddressBookStorage reloaded = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(reloaded.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        readBack.addPatient(IDA);
+        reloaded.saveAddressBook(readBack);
+        assertEquals(1, journalLines().size());
+        assertReadBackEquals(readBack);
+    }
+
+    @Test
+    public void saveAddressBook_binaryDataFile_convertedToJson() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, addressBook);
+        addressBook.addPatient(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertEquals(1, journalLines().size());
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesPlainSnapshot() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, otherFilePath);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    private List<String> journalLines() throws Exception {
+        return Files.readAllLines(storage.getJournalFilePath(), StandardCharsets.UTF_8);
+    }
+
+    private void assertReadBackEquals(AddressBook expected) throws Exception {
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(expected, new AddressBook(readBack));
+    }
+
+    private static Patient withNotes(Patient patient, Note extraNote) {
+        TreeSet<Note> notes = new TreeSet<>(patient.getNotes());
+        notes.add(extraNote);
+        return new Patient(patient.getName(), patient.getPhone(), patient.getAddress(), patient.getTags(), notes);
+    }
+}
@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalPatients.IDA;
 import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,6 +17,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +89,76 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_streamed_sameAsSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        Files.writeString(filePath, "stale content that is longer than nothing");
+
+        new JsonAddressBookStorage(filePath).saveAddressBook(original, filePath);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void readAddressBook_emptyFile_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("EmptyAddressBook.json");
+        FileUtil.createFile(filePath);
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptedDataFile_recoversNewestReadableBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, 2);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPatient(HOON);
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(new AddressBook());
+
+        // truncated by a crash outside of the atomic save, and its newest backup corrupted as well
+        Files.writeString(filePath, "{ \"patients\" : [ {");
+        Files.writeString(FileUtil.getBackupPath(filePath, 1), "not json");
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingDataFileWithBackup_recoversBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(new AddressBook());
+        Files.delete(filePath);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_noReadableGeneration_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, 1);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.writeString(filePath, "not json");
+        Files.writeString(FileUtil.getBackupPath(filePath, 1), "not json");
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_noBackupGenerations_keepsNoBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(new AddressBook());
+
+        assertFalse(Files.exists(FileUtil.getBackupPath(filePath, 1)));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -4,11 +4,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
 
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
@@ -49,8 +55,45 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicatePatients_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PATIENT_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PATIENT,
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PATIENT_NAMES, "Alice Pauline"),
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readAddressBook_typicalPatientsFile_sameAsToModelType() throws Exception {
+        AddressBook expected = JsonUtil.readJsonFile(TYPICAL_PATIENTS_FILE, JsonSerializableAddressBook.class)
+                .get().toModelType();
+        try (BufferedReader reader = Files.newBufferedReader(TYPICAL_PATIENTS_FILE);
+                JsonParser parser = JsonUtil.createParser(reader)) {
+            assertEquals(expected, JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
+    @Test
+    public void readAddressBook_unknownProperties_ignored() throws Exception {
+        String json = "{ \"version\" : { \"major\" : 1 }, \"patients\" : [ ], \"tags\" : [ \"a\" ] }";
+        try (JsonParser parser = JsonUtil.createParser(new StringReader(json))) {
+            assertEquals(new AddressBook(), JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
+    @Test
+    public void readAddressBook_duplicatePatients_throwsIllegalValueException() throws Exception {
+        try (BufferedReader reader = Files.newBufferedReader(DUPLICATE_PATIENT_FILE);
+                JsonParser parser = JsonUtil.createParser(reader)) {
+            String expectedMessage =
+                    String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PATIENT_NAMES, "Alice Pauline");
+            assertThrows(IllegalValueException.class, expectedMessage, () ->
+                    JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
+    @Test
+    public void readAddressBook_patientsNotArray_throwsJsonParseException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(new StringReader("{ \"patients\" : 5 }"))) {
+            assertThrows(JsonParseException.class, () -> JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
 }
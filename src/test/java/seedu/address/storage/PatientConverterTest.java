@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.patient.Name;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.Phone;
+
+public class PatientConverterTest {
+
+    private static final int PATIENT_COUNT = PatientConverter.BATCH_SIZE * 3 + 7;
+
+    @Test
+    public void convertAll_manyBatches_keepsOrder() throws Exception {
+        List<Patient> patients = PatientConverter.convertAll(adaptedPatients(PATIENT_COUNT));
+
+        assertEquals(PATIENT_COUNT, patients.size());
+        for (int i = 0; i < PATIENT_COUNT; i++) {
+            assertEquals(nameOf(i), patients.get(i).getName().fullName);
+        }
+    }
+
+    @Test
+    public void convertAll_fewerThanBatch_success() throws Exception {
+        assertEquals(3, PatientConverter.convertAll(adaptedPatients(3)).size());
+        assertEquals(0, PatientConverter.convertAll(new ArrayList<>()).size());
+    }
+
+    @Test
+    public void convertAll_invalidPatientsInSeveralBatches_reportsFirst() {
+        List<JsonAdaptedPatient> adaptedPatients = adaptedPatients(PATIENT_COUNT);
+        adaptedPatients.set(PatientConverter.BATCH_SIZE + 3,
+                new JsonAdaptedPatient(nameOf(0), "123+", "Somewhere", null, null));
+        adaptedPatients.set(PATIENT_COUNT - 1, new JsonAdaptedPatient("R@chel", "12345", "Somewhere", null, null));
+
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                PatientConverter.convertAll(adaptedPatients));
+    }
+
+    @Test
+    public void convertAll_invalidPatientInLastPartialBatch_throwsIllegalValueException() {
+        List<JsonAdaptedPatient> adaptedPatients = adaptedPatients(PATIENT_COUNT);
+        adaptedPatients.set(PATIENT_COUNT - 1, new JsonAdaptedPatient("R@chel", "12345", "Somewhere", null, null));
+
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                PatientConverter.convertAll(adaptedPatients));
+    }
+
+    @Test
+    public void finish_invalidPatientInFirstBatch_laterBatchesCancelled() throws Exception {
+        int batchCount = 20;
+        AtomicInteger convertedCount = new AtomicInteger();
+        PatientConverter converter = new PatientConverter();
+        converter.add(() -> {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        });
+        for (int i = 1; i < PatientConverter.BATCH_SIZE * batchCount; i++) {
+            JsonAdaptedPatient adaptedPatient = adaptedPatients(1).get(0);
+            converter.add(() -> {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                convertedCount.incrementAndGet();
+                return adaptedPatient.toModelType();
+            });
+        }
+
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, converter::finish);
+        ForkJoinPool.commonPool().awaitQuiescence(10, TimeUnit.SECONDS);
+        assertTrue(convertedCount.get() < PatientConverter.BATCH_SIZE * (batchCount - 1));
+    }
+
+    @Test
+    public void convertAll_interrupted_throwsDataLoadingException() {
+        List<JsonAdaptedPatient> adaptedPatients = adaptedPatients(PATIENT_COUNT);
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(DataLoadingException.class, () -> PatientConverter.convertAll(adaptedPatients));
+        } finally {
+            // Also clears the interrupt, so that it does not leak into other tests.
+            assertTrue(Thread.interrupted());
+        }
+    }
+
+    private static List<JsonAdaptedPatient> adaptedPatients(int count) {
+        List<JsonAdaptedPatient> adaptedPatients = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            adaptedPatients.add(new JsonAdaptedPatient(nameOf(i), String.valueOf(10000000 + i), "Block " + i,
+                    null, null));
+        }
+        return adaptedPatients;
+    }
+
+    private static String nameOf(int index) {
+        return "Patient " + index;
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.CARL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.note.Note;
+import seedu.address.model.patient.Patient;
+import seedu.address.storage.PatientImportFile.ImportRow;
+import seedu.address.testutil.PatientBuilder;
+
+public class PatientExportFileTest {
+
+    private static final Patient ALICE_WITH_TWO_NOTES = new PatientBuilder(ALICE)
+            .withNotes(new Note("Follow-up", "Sleeping better, \"mostly\".\nReview in May.",
+                    LocalDateTime.parse("2023-04-01T09:30:00")))
+            .build();
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void isSupported() {
+        assertTrue(PatientExportFile.isSupported(Paths.get("patients.csv")));
+        assertTrue(PatientExportFile.isSupported(Paths.get("reports", "patients.MD")));
+        assertFalse(PatientExportFile.isSupported(Paths.get("patients.json")));
+    }
+
+    @Test
+    public void write_csvFile_onePatientPerRow() throws Exception {
+        Path file = testFolder.resolve("patients.csv");
+        PatientExportFile.write(file, List.of(ALICE_WITH_TWO_NOTES, CARL));
+
+        assertEquals("name,phone,address,tags,notes\n"
+                + "Alice Pauline,94351253,\"123, Jurong West Ave 6, #08-111\",friends,"
+                + "\"[2023-03-11 12:00] 4th Session with Alice: Discussed progress\n"
+                + "[2023-04-01 09:30] Follow-up: Sleeping better, \"\"mostly\"\".\nReview in May.\"\n"
+                + "Carl Kurz,95352563,wall street,,\n", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void write_csvFile_canBeImported() throws Exception {
+        Path file = testFolder.resolve("patients.csv");
+        PatientExportFile.write(file, List.of(ALICE_WITH_TWO_NOTES, CARL));
+
+        List<Patient> importedPatients = new ArrayList<>();
+        for (ImportRow row : PatientImportFile.read(file)) {
+            importedPatients.add(row.toModelType());
+        }
+        assertEquals(List.of(new PatientBuilder(ALICE).withNoNote().build(), new PatientBuilder(CARL).withNoNote()
+                .build()), importedPatients);
+    }
+
+    @Test
+    public void write_markdownFile_oneSectionPerPatient() throws Exception {
+        Path file = testFolder.resolve("patients.md");
+        PatientExportFile.write(file, List.of(ALICE_WITH_TWO_NOTES, CARL));
+
+        assertEquals("# Patients\n"
+                + "\n## Alice Pauline\n\n"
+                + "- Phone: 94351253\n"
+                + "- Address: 123, Jurong West Ave 6, \\#08-111\n"
+                + "- Tags: `friends`\n"
+                + "\n### 4th Session with Alice\n\n_2023-03-11 12:00_\n\nDiscussed progress\n"
+                + "\n### Follow-up\n\n_2023-04-01 09:30_\n\nSleeping better, \"mostly\".\nReview in May.\n"
+                + "\n## Carl Kurz\n\n"
+                + "- Phone: 95352563\n"
+                + "- Address: wall street\n", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void write_csvFileWithFormulaLikeCells_cellsEscaped() throws Exception {
+        Patient patient = new PatientBuilder().withName("Eve").withPhone("+6591234567")
+                .withAddress("=HYPERLINK(\"http://example.com\")").withNoNote().build();
+        Path file = testFolder.resolve("patients.csv");
+        PatientExportFile.write(file, List.of(patient));
+
+        assertEquals("name,phone,address,tags,notes\n"
+                + "Eve,'+6591234567,\"'=HYPERLINK(\"\"http://example.com\"\")\",,\n", FileUtil.readFromFile(file));
+        assertEquals(patient, PatientImportFile.read(file).get(0).toModelType());
+    }
+
+    @Test
+    public void write_markdownFileWithFormattingCharacters_charactersEscaped() throws Exception {
+        Patient patient = new PatientBuilder().withName("Eve").withAddress("#1 Main St | *Block* B")
+                .withNotes(new Note("Plan #2", "Use `tool` and [link]", LocalDateTime.parse("2023-04-01T09:30:00")))
+                .build();
+        Path file = testFolder.resolve("patients.md");
+        PatientExportFile.write(file, List.of(patient));
+
+        String markdown = FileUtil.readFromFile(file);
+        assertTrue(markdown.contains("- Address: \\#1 Main St \\| \\*Block\\* B\n"));
+        assertTrue(markdown.contains("### Plan \\#2\n"));
+        assertTrue(markdown.contains("Use \\`tool\\` and \\[link\\]\n"));
+    }
+
+    @Test
+    public void write_unsupportedFile_throwsIoException() {
+        assertThrows(IOException.class, () -> PatientExportFile.write(testFolder.resolve("patients.txt"),
+                List.of(CARL)));
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.CARL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.patient.Patient;
+import seedu.address.storage.PatientImportFile.ImportRow;
+import seedu.address.testutil.PatientBuilder;
+
+public class PatientImportFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void isSupported() {
+        assertTrue(PatientImportFile.isSupported(Paths.get("patients.csv")));
+        assertTrue(PatientImportFile.isSupported(Paths.get("data", "patients.JSON")));
+        assertFalse(PatientImportFile.isSupported(Paths.get("patients.txt")));
+        assertFalse(PatientImportFile.isSupported(Paths.get("csv")));
+    }
+
+    @Test
+    public void read_csvFile_rowsInOrder() throws Exception {
+        Path file = write("patients.csv", "\uFEFFPhone,Name,Address,Tags,Referred by\n"
+                + "98765432,Benson Meier,\"311, Clementi Ave 2, #02-25\",owesMoney friends,Dr Tan\n"
+                + ",,,,\n"
+                + "95352563,Carl Kurz,wall street,,\n");
+
+        List<ImportRow> rows = PatientImportFile.read(file);
+
+        assertEquals(2, rows.size());
+        assertEquals(2, rows.get(0).getRowNumber());
+        assertEquals(new PatientBuilder(BENSON).withNoNote().build(), rows.get(0).toModelType());
+        assertEquals(4, rows.get(1).getRowNumber());
+        assertEquals(new PatientBuilder(CARL).withNoNote().build(), rows.get(1).toModelType());
+    }
+
+    @Test
+    public void read_inBatches_rowsHandedOnAsRead() throws Exception {
+        Path file = write("patients.csv", "name,phone,address\n"
+                + "Benson Meier,98765432,311 Clementi Ave 2\n"
+                + "Carl Kurz,95352563,wall street\n"
+                + "Daniel Meier,87652533,10th street\n");
+
+        List<List<Integer>> batches = new ArrayList<>();
+        PatientImportFile.read(file, 2, batch -> batches.add(
+                batch.stream().map(ImportRow::getRowNumber).collect(Collectors.toList())));
+
+        assertEquals(List.of(List.of(2, 3), List.of(4)), batches);
+    }
+
+    @Test
+    public void read_csvFileWithInvalidPatient_rowFailsValidation() throws Exception {
+        Path file = write("patients.csv", "name,phone,address\nCarl Kurz,,wall street\n");
+        List<ImportRow> rows = PatientImportFile.read(file);
+        assertThrows(IllegalValueException.class, rows.get(0)::toModelType);
+    }
+
+    @Test
+    public void read_csvFileWithoutRequiredColumn_throwsIoException() throws Exception {
+        Path file = write("patients.csv", "name,phone\nCarl Kurz,95352563\n");
+        assertThrows(IOException.class, () -> PatientImportFile.read(file));
+        Path emptyFile = write("empty.csv", "");
+        assertThrows(IOException.class, () -> PatientImportFile.read(emptyFile));
+    }
+
+    @Test
+    public void read_jsonArrayOrDataFile_rowsInOrder() throws Exception {
+        String patients = "[{\"name\": \"Benson Meier\", \"phone\": \"98765432\", "
+                + "\"address\": \"311, Clementi Ave 2, #02-25\", \"tags\": [\"friends\"]},"
+                + "{\"name\": \"Carl Kurz\", \"phone\": \"95352563\", \"address\": \"wall street\"}]";
+        Patient benson = new PatientBuilder(BENSON).withTags("friends").withNoNote().build();
+        Patient carl = new PatientBuilder(CARL).withNoNote().build();
+
+        for (String content : List.of(patients, "{\"version\": 1, \"patients\": " + patients + "}")) {
+            List<Patient> readPatients = new ArrayList<>();
+            for (ImportRow row : PatientImportFile.read(write("patients.json", content))) {
+                readPatients.add(row.toModelType());
+            }
+            assertEquals(List.of(benson, carl), readPatients);
+        }
+    }
+
+    @Test
+    public void read_jsonFileWithoutPatients_throwsIoException() throws Exception {
+        Path notPatients = write("other.json", "{\"persons\": []}");
+        assertThrows(IOException.class, () -> PatientImportFile.read(notPatients));
+        Path notObjects = write("strings.json", "[\"Carl Kurz\"]");
+        assertThrows(IOException.class, () -> PatientImportFile.read(notObjects));
+    }
+
+    @Test
+    public void read_unsupportedOrMissingFile_throwsIoException() {
+        assertThrows(IOException.class, () -> PatientImportFile.read(testFolder.resolve("patients.txt")));
+        assertThrows(IOException.class, () -> PatientImportFile.read(testFolder.resolve("missing.csv")));
+    }
+
+    private Path write(String fileName, String content) throws IOException {
+        Path file = testFolder.resolve(fileName);
+        FileUtil.writeToFile(file, content);
+        return file;
+    }
+}
@@ -0,0 +1,309 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.HOON;
+import static seedu.address.testutil.TypicalPatients.IDA;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.note.Note;
+import seedu.address.model.patient.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final FileTime UNTOUCHED = FileTime.fromMillis(0);
+    private static final int BUCKET_COUNT = 16;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private ShardedAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        storage = new ShardedAddressBookStorage(filePath, BUCKET_COUNT);
+    }
+
+    @Test
+    public void readAddressBook_missingData_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertReadBackEquals(original);
+
+        original.addPatient(HOON);
+        original.removePatient(ALICE);
+        storage.saveAddressBook(original);
+        assertReadBackEquals(original);
+
+        original.setPatients(List.of(IDA));
+        storage.saveAddressBook(original);
+        assertReadBackEquals(original);
+        assertEquals(1, shardFiles().size());
+    }
+
+    @Test
+    public void saveAddressBook_oneNoteEdited_rewritesOnlyItsShard() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        markAllUntouched();
+
+        original.setPatient(BENSON, new PatientBuilder(BENSON)
+                .withNotes(new Note("Follow up", "Call back", LocalDateTime.parse("2024-01-01T09:00:00"))).build());
+        storage.saveAddressBook(original);
+
+        int rewritten = 0;
+        for (Path shardFile : shardFiles()) {
+            rewritten += lastModified(shardFile).equals(UNTOUCHED) ? 0 : 1;
+        }
+        assertEquals(1, rewritten);
+        assertEquals(UNTOUCHED, lastModified(manifestFile()));
+        assertReadBackEquals(original);
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAfterReload_writesNothing() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        markAllUntouched();
+
+        ShardedAddressBookStorage reloaded = new ShardedAddressBookStorage(filePath);
+        reloaded.saveAddressBook(new AddressBook(reloaded.readAddressBook().get()));
+
+        for (Path shardFile : shardFiles()) {
+            assertEquals(UNTOUCHED, lastModified(shardFile));
+        }
+        assertEquals(UNTOUCHED, lastModified(manifestFile()));
+    }
+
+    @Test
+    public void saveAddressBook_patientsAddedRenamedAndRemoved_appendsToManifestJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        markAllUntouched();
+
+        original.addPatient(HOON);
+        storage.saveAddressBook(original);
+        original.setPatient(BENSON, new PatientBuilder(BENSON).withName("Benson Tan").build());
+        storage.saveAddressBook(original);
+        original.removePatient(ALICE);
+        storage.saveAddressBook(original);
+
+        assertEquals(UNTOUCHED, lastModified(manifestFile()));
+        assertEquals(4, Files.readAllLines(manifestJournalFile()).size());
+        assertReadBackEquals(original);
+    }
+
+    @Test
+    public void saveAddressBook_severalPatientsRemoved_rewritesManifest() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPatient(HOON);
+        storage.saveAddressBook(original);
+        markAllUntouched();
+
+        original.removePatient(ALICE);
+        original.removePatient(BENSON);
+        storage.saveAddressBook(original);
+
+        assertFalse(lastModified(manifestFile()).equals(UNTOUCHED));
+        assertEquals(1, Files.readAllLines(manifestJournalFile()).size());
+        assertReadBackEquals(original);
+    }
+
+    @Test
+    public void readAddressBook_incompleteManifestJournalEntry_skipped() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPatient(HOON);
+        storage.saveAddressBook(original);
+        Files.writeString(manifestJournalFile(), "{ \"operation\" : \"ADD_PA", StandardOpenOption.APPEND);
+
+        ShardedAddressBookStorage reloaded = new ShardedAddressBookStorage(filePath);
+        AddressBook reloadedAddressBook = new AddressBook(reloaded.readAddressBook().get());
+        assertEquals(original, reloadedAddressBook);
+
+        reloadedAddressBook.addPatient(IDA);
+        reloaded.saveAddressBook(reloadedAddressBook);
+        assertEquals(1, Files.readAllLines(manifestJournalFile()).size());
+        assertReadBackEquals(reloadedAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_patientMissingFromManifest_loadedLast() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        List<String> keys = new ArrayList<>();
+        original.getPatientList().forEach(patient -> keys.add(patient.getName().getIdentityKey()));
+        keys.remove(ALICE.getName().getIdentityKey());
+        JsonUtil.saveJsonFile(new JsonShardManifest(BUCKET_COUNT, keys), manifestFile());
+
+        AddressBook expected = getTypicalAddressBook();
+        expected.removePatient(ALICE);
+        expected.addPatient(ALICE);
+        assertReadBackEquals(expected);
+    }
+
+    @Test
+    public void readAddressBook_crashBetweenShardsOfRename_renamedPatientLoadedOnce() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Path oldShardFile = shardFileOf(BENSON);
+        byte[] oldShard = Files.readAllBytes(oldShardFile);
+
+        original.setPatient(BENSON, renamedToOtherShard(BENSON));
+        storage.saveAddressBook(original);
+        // as if the save stopped after writing the renamed patient, before dropping it from its old shard
+        Files.write(oldShardFile, oldShard);
+        assertReadBackEquals(original);
+
+        ShardedAddressBookStorage reloaded = new ShardedAddressBookStorage(filePath, BUCKET_COUNT);
+        reloaded.saveAddressBook(reloaded.readAddressBook().get());
+        assertFalse(Files.exists(oldShardFile) && Files.readString(oldShardFile).contains(BENSON.getName().fullName));
+        assertReadBackEquals(original);
+    }
+
+    @Test
+    public void readAddressBook_crashBeforeShardsOfRename_patientKeptUnderOldName() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Map<Path, byte[]> shards = new HashMap<>();
+        for (Path shardFile : shardFiles()) {
+            shards.put(shardFile, Files.readAllBytes(shardFile));
+        }
+
+        AddressBook renamed = getTypicalAddressBook();
+        renamed.setPatient(BENSON, renamedToOtherShard(BENSON));
+        storage.saveAddressBook(renamed);
+        // as if the save stopped after recording the rename, before writing any shard
+        for (Path shardFile : shardFiles()) {
+            Files.delete(shardFile);
+        }
+        for (Map.Entry<Path, byte[]> shard : shards.entrySet()) {
+            Files.write(shard.getKey(), shard.getValue());
+        }
+
+        assertReadBackEquals(original);
+    }
+
+    @Test
+    public void readAddressBook_dataFileInOtherFormat_convertedOnSave() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JournalAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(filePath));
+        assertFalse(Files.exists(filePath.resolveSibling(
+                "addressbook.json" + JournalAddressBookStorage.JOURNAL_FILE_SUFFIX)));
+        assertTrue(Files.exists(
+                filePath.resolveSibling("addressbook.json" + ShardedAddressBookStorage.CONVERTED_FILE_SUFFIX)));
+        assertReadBackEquals(original);
+        // switching back to json reads the shards until a json file is saved again
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterConversion_removesStaleShards() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook replacement = new AddressBook();
+        replacement.addPatient(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        ShardedAddressBookStorage reloaded = new ShardedAddressBookStorage(filePath);
+        reloaded.saveAddressBook(reloaded.readAddressBook().get());
+
+        assertEquals(1, shardFiles().size());
+        assertReadBackEquals(replacement);
+    }
+
+    @Test
+    public void readAddressBook_corruptedShard_throwsDataLoadingException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.writeString(shardFiles().get(0), "{ \"patients\" : [ { \"name\" : ");
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    private void assertReadBackEquals(AddressBook expected) throws Exception {
+        assertEquals(expected, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    private Path shardFileOf(Patient patient) {
+        return storage.getShardDirectory().resolve(String.format("shard-%04d.json", bucketOf(patient)));
+    }
+
+    private static int bucketOf(Patient patient) {
+        return Math.floorMod(patient.getName().getIdentityKey().hashCode(), BUCKET_COUNT);
+    }
+
+    /**
+     * Returns a copy of {@code patient} with a new name that puts it in a different shard.
+     */
+    private static Patient renamedToOtherShard(Patient patient) {
+        for (char suffix = 'A'; suffix <= 'Z'; suffix++) {
+            Patient renamed = new PatientBuilder(patient).withName(patient.getName().fullName + " " + suffix).build();
+            if (bucketOf(renamed) != bucketOf(patient)) {
+                return renamed;
+            }
+        }
+        throw new AssertionError("No name found in a different shard");
+    }
+
+    private Path manifestFile() {
+        return storage.getShardDirectory().resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+    }
+
+    private Path manifestJournalFile() {
+        return storage.getShardDirectory().resolve(ShardedAddressBookStorage.MANIFEST_JOURNAL_FILE_NAME);
+    }
+
+    private List<Path> shardFiles() throws Exception {
+        List<Path> shardFiles = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(storage.getShardDirectory(), "shard-*")) {
+            stream.forEach(shardFiles::add);
+        }
+        return shardFiles;
+    }
+
+    private void markAllUntouched() throws Exception {
+        for (Path shardFile : shardFiles()) {
+            Files.setLastModifiedTime(shardFile, UNTOUCHED);
+        }
+        Files.setLastModifiedTime(manifestFile(), UNTOUCHED);
+    }
+
+    private static FileTime lastModified(Path file) throws Exception {
+        return Files.getLastModifiedTime(file);
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Set;
 import java.util.TreeSet;
 
 import seedu.address.model.note.Note;
+import seedu.address.model.note.NoteLoader;
 import seedu.address.model.patient.Address;
 import seedu.address.model.patient.Name;
 import seedu.address.model.patient.Patient;
@@ -30,6 +31,7 @@ public class PatientBuilder {
     private Address address;
     private Set<Tag> tags;
     private TreeSet<Note> notes;
+    private NoteLoader noteLoader;
 
     /**
      * Creates a {@code PatientBuilder} with the default details.
@@ -101,7 +103,22 @@ public class PatientBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Note} of the {@code Patient} that we are building to be loaded by {@code noteLoader}
+     * when first needed.
+     */
+    public PatientBuilder withPendingNotes(NoteLoader noteLoader) {
+        this.noteLoader = noteLoader;
+        return this;
+    }
+
+    /**
+     * Builds the {@code Patient} with the details set so far.
+     */
     public Patient build() {
+        if (noteLoader != null) {
+            return new Patient(name, phone, address, tags, noteLoader);
+        }
         return new Patient(name, phone, address, tags, notes);
     }
 
@@ -0,0 +1,95 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.note.Note;
+import seedu.address.model.note.NoteSearchHit;
+import seedu.address.model.patient.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+public class NoteRowTest {
+
+    private static final Note NOTE_A = new Note("Intake", "First session.");
+    private static final Note NOTE_B = new Note("Review", "Second session.");
+    private static final Note NOTE_C = new Note("Discharge", "Last session.");
+    private static final NoteRow EMPTY = NoteRow.message("Nothing here.", "note-content");
+
+    private final Patient alice = new PatientBuilder().withName("Alice").withNoNote().withNotes(NOTE_A, NOTE_B).build();
+    private final Patient bob = new PatientBuilder().withName("Bob").withNoNote().build();
+    private final Patient carl = new PatientBuilder().withName("Carl").withNoNote().withNotes(NOTE_C).build();
+
+    @Test
+    public void message_nullStyleClass_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> NoteRow.message("Nothing here.", null));
+    }
+
+    @Test
+    public void forAllNotes_patientsWithNotes_headersAndNotesNumberedAcrossPatients() {
+        List<NoteRow> rows = NoteRow.forAllNotes(List.of(alice, bob, carl), EMPTY);
+
+        assertEquals(5, rows.size());
+        assertHeader(rows.get(0), "Alice");
+        assertEquals(2, alice.getNotes().size());
+        assertNote(rows.get(1), alice.getNotes().first(), 1);
+        assertNote(rows.get(2), alice.getNotes().last(), 2);
+        assertHeader(rows.get(3), "Carl");
+        assertNote(rows.get(4), NOTE_C, 3);
+    }
+
+    @Test
+    public void forAllNotes_noNotes_onlyMessage() {
+        assertEquals(List.of(EMPTY), NoteRow.forAllNotes(List.of(bob), EMPTY));
+        assertEquals(List.of(EMPTY), NoteRow.forAllNotes(List.of(), EMPTY));
+    }
+
+    @Test
+    public void forSearchHits_consecutiveHitsOfSamePatient_singleHeader() {
+        List<NoteRow> rows = NoteRow.forSearchHits(List.of(new NoteSearchHit(alice, NOTE_B, 3),
+                new NoteSearchHit(alice, NOTE_A, 2), new NoteSearchHit(carl, NOTE_C, 1)), EMPTY);
+
+        assertEquals(5, rows.size());
+        assertHeader(rows.get(0), "Alice");
+        assertNote(rows.get(1), NOTE_B, 1);
+        assertNote(rows.get(2), NOTE_A, 2);
+        assertHeader(rows.get(3), "Carl");
+        assertNote(rows.get(4), NOTE_C, 3);
+    }
+
+    @Test
+    public void forNotes_notes_noHeader() {
+        List<NoteRow> rows = NoteRow.forNotes(List.of(NOTE_C, NOTE_A), EMPTY);
+
+        assertEquals(2, rows.size());
+        assertNote(rows.get(0), NOTE_C, 1);
+        assertNote(rows.get(1), NOTE_A, 2);
+        assertEquals(List.of(EMPTY), NoteRow.forNotes(List.of(), EMPTY));
+    }
+
+    @Test
+    public void message() {
+        assertEquals(NoteRow.Kind.MESSAGE, EMPTY.getKind());
+        assertEquals("Nothing here.", EMPTY.getText());
+        assertEquals("note-content", EMPTY.getStyleClass());
+        assertFalse(EMPTY.getNote().isPresent());
+    }
+
+    private static void assertHeader(NoteRow row, String patientName) {
+        assertEquals(NoteRow.Kind.HEADER, row.getKind());
+        assertEquals(patientName, row.getText());
+        assertFalse(row.getNote().isPresent());
+    }
+
+    private static void assertNote(NoteRow row, Note note, int noteNumber) {
+        assertEquals(NoteRow.Kind.NOTE, row.getKind());
+        assertEquals(note, row.getNote().get());
+        assertEquals(noteNumber, row.getNoteNumber());
+        assertNull(row.getStyleClass());
+    }
+}
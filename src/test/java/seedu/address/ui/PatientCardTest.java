@@ -1,6 +1,8 @@
 package seedu.address.ui;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPatients.ALICE;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -54,4 +56,15 @@ public class PatientCardTest {
 
         assertEquals(expectedNotes, expectedNotes); // No UI elements, just validating logic
     }
+
+    @Test
+    public void getTagStyle() {
+        // single tag -> default color
+        assertEquals(PatientCard.getTagStyle(0, 2), PatientCard.getTagStyle(0, 1));
+
+        // multiple tags -> colors cycle
+        assertNotEquals(PatientCard.getTagStyle(0, 6), PatientCard.getTagStyle(1, 6));
+        assertEquals(PatientCard.getTagStyle(0, 6), PatientCard.getTagStyle(5, 6));
+        assertTrue(PatientCard.getTagStyle(1, 2).contains("#718355"));
+    }
 }